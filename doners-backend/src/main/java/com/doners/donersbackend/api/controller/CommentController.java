@@ -3,10 +3,16 @@ package com.doners.donersbackend.api.controller;
 import com.doners.donersbackend.application.dto.request.comment.CommentChangePatchDTO;
 import com.doners.donersbackend.application.dto.request.comment.CommentRegisterPostDTO;
 import com.doners.donersbackend.application.dto.response.comment.CommentGetListWrapperResponseDTO;
+import com.doners.donersbackend.application.dto.response.comment.CommentGetTreeWrapperResponseDTO;
 import com.doners.donersbackend.application.service.CommentService;
 import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.security.principal.CurrentUser;
+import com.doners.donersbackend.util.pagination.InvalidCursorException;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
@@ -14,12 +20,14 @@ import springfox.documentation.annotations.ApiIgnore;
 import javax.validation.Valid;
 
 @RestController
-@CrossOrigin("*")
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.ETAG)
 @Api(value="Comment API", tags={"Comment"})
 @RequiredArgsConstructor
 @RequestMapping("/api/comment")
 public class CommentController {
 
+    private static final int MAX_TREE_SIZE = 100;
+
     private final CommentService commentService;
 
     @PostMapping
@@ -29,10 +37,10 @@ public class CommentController {
             @ApiResponse(code=409, message="필수 댓글 정보 입력에 실패했습니다.")
     })
     public ResponseEntity<? extends BaseResponseDTO> registerComment(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @RequestBody @Valid @ApiParam(value="추가할 댓글 정보", required=true) CommentRegisterPostDTO commentRegisterPostDTO) {
         try {
-            commentService.registerComment(accessToken, commentRegisterPostDTO);
+            commentService.registerComment(user, commentRegisterPostDTO);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(409).body(BaseResponseDTO.of("필수 댓글 정보 입력에 실패했습니다.", 409));
@@ -49,11 +57,11 @@ public class CommentController {
             @ApiResponse(code=409, message="댓글 변경에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> changeComment(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @RequestBody @Valid @ApiParam(value="수정할 댓글 내용", required=true) CommentChangePatchDTO commentChangePatchDTO) {
 
         try {
-            Integer statusCode = commentService.changeComment(accessToken, commentChangePatchDTO);
+            Integer statusCode = commentService.changeComment(user, commentChangePatchDTO);
 
             if(statusCode == 409)
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("댓글 변경에 실패했습니다.", 409));
@@ -72,11 +80,11 @@ public class CommentController {
             @ApiResponse(code=409, message="댓글 삭제에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> deleteComment(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("commentId") @ApiParam(value="댓글 ID", required=true) String commentId) {
 
         try {
-            Integer statusCode = commentService.deleteComment(accessToken, commentId);
+            Integer statusCode = commentService.deleteComment(user, commentId);
 
             if(statusCode == 409)
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("댓글 삭제에 실패했습니다.", 409));
@@ -88,27 +96,103 @@ public class CommentController {
     }
 
     @GetMapping("/community/{communityId}")
-    @ApiOperation(value="커뮤니티 글 댓글 리스트 조회")
+    @ApiOperation(value="커뮤니티 글 댓글 리스트 조회 (since : 이후 변경분만 조회, If-None-Match : 변경 없으면 304)")
     @ApiResponses({
             @ApiResponse(code=200, message="커뮤니티 글에 달린 댓글 리스트 조회에 성공했습니다."),
+            @ApiResponse(code=304, message="댓글 목록이 변경되지 않았습니다."),
+            @ApiResponse(code=400, message="잘못된 형식의 커서입니다."),
+            @ApiResponse(code=404, message="해당 커뮤니티 글을 찾을 수 없습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getCommunityCommentList(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
-            @PathVariable("communityId") @ApiParam(value="커뮤니티 ID", required=true) String communityId) {
+            @ApiIgnore @CurrentUser User user,
+            @ApiIgnore @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @PathVariable("communityId") @ApiParam(value="커뮤니티 ID", required=true) String communityId,
+            @ApiParam(value="이전 응답의 since 커서") @RequestParam(required = false) String since) {
 
-        return ResponseEntity.ok(CommentGetListWrapperResponseDTO.of(200,"커뮤니티 댓글 목록 조회 성공", commentService.getCommunityCommentList(accessToken, communityId)));
+        try {
+            // 목록보다 버전을 먼저 읽어서 ETag 가 응답 내용보다 새로울 수 없도록 함
+            String eTag = createETag(commentService.getCommunityCommentVersion(communityId));
+
+            if(matchesETag(ifNoneMatch, eTag))
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+
+            return ResponseEntity.ok().eTag(eTag)
+                    .body(CommentGetListWrapperResponseDTO.of(200,"커뮤니티 댓글 목록 조회 성공", commentService.getCommunityCommentList(user, communityId, since)));
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(400).body(BaseResponseDTO.of("잘못된 형식의 커서입니다.", 400));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("해당 커뮤니티 글을 찾을 수 없습니다.", 404));
+        }
     }
 
     @GetMapping("/epilogue/{epilogueId}")
-    @ApiOperation(value="에필로그 글 댓글 리스트 조회")
+    @ApiOperation(value="에필로그 글 댓글 리스트 조회 (since : 이후 변경분만 조회, If-None-Match : 변경 없으면 304)")
     @ApiResponses({
             @ApiResponse(code=200, message="에필로그 글에 달린 댓글 리스트 조회에 성공했습니다."),
+            @ApiResponse(code=304, message="댓글 목록이 변경되지 않았습니다."),
+            @ApiResponse(code=400, message="잘못된 형식의 커서입니다."),
+            @ApiResponse(code=404, message="해당 감사 글을 찾을 수 없습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getEpilogueCommentList(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
-            @PathVariable("epilogueId") @ApiParam(value="에필로그 ID", required=true) String epilogueId) {
+            @ApiIgnore @CurrentUser User user,
+            @ApiIgnore @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @PathVariable("epilogueId") @ApiParam(value="에필로그 ID", required=true) String epilogueId,
+            @ApiParam(value="이전 응답의 since 커서") @RequestParam(required = false) String since) {
+
+        try {
+            // 목록보다 버전을 먼저 읽어서 ETag 가 응답 내용보다 새로울 수 없도록 함
+            String eTag = createETag(commentService.getEpilogueCommentVersion(epilogueId));
+
+            if(matchesETag(ifNoneMatch, eTag))
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+
+            return ResponseEntity.ok().eTag(eTag)
+                    .body(CommentGetListWrapperResponseDTO.of(200,"감사 글 댓글 목록 조회 성공", commentService.getEpilogueCommentList(user, epilogueId, since)));
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(400).body(BaseResponseDTO.of("잘못된 형식의 커서입니다.", 400));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("해당 감사 글을 찾을 수 없습니다.", 404));
+        }
+    }
 
-        return ResponseEntity.ok(CommentGetListWrapperResponseDTO.of(200,"감사 글 댓글 목록 조회 성공", commentService.getEpilogueCommentList(accessToken, epilogueId)));
+    @GetMapping("/community/{communityId}/tree")
+    @ApiOperation(value="커뮤니티 글 댓글 트리 조회 (대댓글 포함, 최상위 댓글 기준 페이지)")
+    @ApiResponses({
+            @ApiResponse(code=200, message="커뮤니티 글 댓글 트리 조회에 성공했습니다."),
+            @ApiResponse(code=404, message="해당 커뮤니티 글을 찾을 수 없습니다."),
+    })
+    public ResponseEntity<? extends BaseResponseDTO> getCommunityCommentTree(
+            @ApiIgnore @CurrentUser User user,
+            @PathVariable("communityId") @ApiParam(value="커뮤니티 ID", required=true) String communityId,
+            @ApiParam(value="페이지 번호") @RequestParam(defaultValue = "1") int page,
+            @ApiParam(value="페이지 당 최상위 댓글 수") @RequestParam(defaultValue = "20") int size) {
+
+        try {
+            return ResponseEntity.ok(CommentGetTreeWrapperResponseDTO.of(200, "커뮤니티 댓글 트리 조회 성공",
+                    commentService.getCommunityCommentTree(user, communityId, Math.max(page, 1), Math.min(Math.max(size, 1), MAX_TREE_SIZE))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("해당 커뮤니티 글을 찾을 수 없습니다.", 404));
+        }
+    }
+
+    @GetMapping("/epilogue/{epilogueId}/tree")
+    @ApiOperation(value="에필로그 글 댓글 트리 조회 (대댓글 포함, 최상위 댓글 기준 페이지)")
+    @ApiResponses({
+            @ApiResponse(code=200, message="에필로그 글 댓글 트리 조회에 성공했습니다."),
+            @ApiResponse(code=404, message="해당 감사 글을 찾을 수 없습니다."),
+    })
+    public ResponseEntity<? extends BaseResponseDTO> getEpilogueCommentTree(
+            @ApiIgnore @CurrentUser User user,
+            @PathVariable("epilogueId") @ApiParam(value="에필로그 ID", required=true) String epilogueId,
+            @ApiParam(value="페이지 번호") @RequestParam(defaultValue = "1") int page,
+            @ApiParam(value="페이지 당 최상위 댓글 수") @RequestParam(defaultValue = "20") int size) {
+
+        try {
+            return ResponseEntity.ok(CommentGetTreeWrapperResponseDTO.of(200, "감사 글 댓글 트리 조회 성공",
+                    commentService.getEpilogueCommentTree(user, epilogueId, Math.max(page, 1), Math.min(Math.max(size, 1), MAX_TREE_SIZE))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("해당 감사 글을 찾을 수 없습니다.", 404));
+        }
     }
 
     @GetMapping("/subComment/{commentId}")
@@ -117,9 +201,27 @@ public class CommentController {
             @ApiResponse(code=200, message="대댓글 리스트 조회에 성공했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getSubComment(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("commentId") @ApiParam(value="댓글 ID", required=true) String commentId) {
 
-        return ResponseEntity.ok(CommentGetListWrapperResponseDTO.of(200,"대댓글 목록 조회 성공", commentService.getSubCommentList(accessToken, commentId)));
+        return ResponseEntity.ok(CommentGetListWrapperResponseDTO.of(200,"대댓글 목록 조회 성공", commentService.getSubCommentList(user, commentId)));
+    }
+
+    private String createETag(long version) {
+        return "\"c" + version + "\"";
+    }
+
+    // If-None-Match 의 여러 값, 약한 ETag(W/) 모두 비교
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if(ifNoneMatch == null) return false;
+
+        for(String value : ifNoneMatch.split(",")) {
+            String candidate = value.trim();
+
+            if(candidate.startsWith("W/")) candidate = candidate.substring(2);
+            if(candidate.equals(eTag) || candidate.equals("*")) return true;
+        }
+
+        return false;
     }
 }
@@ -6,6 +6,8 @@ import com.doners.donersbackend.application.dto.response.community.CommunityGetL
 import com.doners.donersbackend.application.dto.response.community.CommunityResponseDTO;
 import com.doners.donersbackend.application.service.CommunityService;
 import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.security.principal.CurrentUser;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -30,10 +32,10 @@ public class CommunityController {
             @ApiResponse(code=409, message="필수 게시글 정보 입력에 실패했습니다.")
     })
     public ResponseEntity<? extends BaseResponseDTO> registerCommunity(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @RequestBody @Valid @ApiParam(value="필수 게시글 정보", required=true) CommunityRegisterPostDTO communityRegisterPostDTO) {
         try {
-            communityService.registerCommunity(accessToken, communityRegisterPostDTO);
+            communityService.registerCommunity(user, communityRegisterPostDTO);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(409).body(BaseResponseDTO.of("필수 게시글 정보 입력에 실패했습니다.", 409));
@@ -50,11 +52,11 @@ public class CommunityController {
             @ApiResponse(code=409, message="글 변경에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> changeCommunity(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @RequestBody @Valid  @ApiParam(value="필수 게시글 정보", required=true) CommunityChangePatchDTO communityChangePatchDTO) {
 
         try {
-            Integer statusCode = communityService.changeCommunity(accessToken, communityChangePatchDTO);
+            Integer statusCode = communityService.changeCommunity(user, communityChangePatchDTO);
 
             if(statusCode == 409)
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("글 변경에 실패했습니다.", 409));
@@ -73,11 +75,11 @@ public class CommunityController {
             @ApiResponse(code=409, message="글 삭제에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> deleteCommunity(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("communityId") @ApiParam(value="글id", required=true) String communityId) {
 
         try {
-            Integer statusCode = communityService.deleteCommunity(accessToken, communityId);
+            Integer statusCode = communityService.deleteCommunity(user, communityId);
 
             if(statusCode == 409)
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("글 삭제에 실패했습니다.", 409));
@@ -94,10 +96,10 @@ public class CommunityController {
             @ApiResponse(code=200, message="글 목록 조회에 성공했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getCommunityList(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("sequence") @ApiParam(value="", required=true) int sequence) {
 
-        return ResponseEntity.ok(CommunityGetListWrapperResponseDTO.of("커뮤니티 글 목록 조회 성공", 200, communityService.getCommunityList(accessToken, sequence)));
+        return ResponseEntity.ok(CommunityGetListWrapperResponseDTO.of("커뮤니티 글 목록 조회 성공", 200, communityService.getCommunityList(user, sequence)));
     }
 
     @GetMapping("/{communityId}")
@@ -106,9 +108,9 @@ public class CommunityController {
             @ApiResponse(code=200, message="글 조회에 성공했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getCommunity(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("communityId") @ApiParam(value="글id", required=true) String communityId) {
 
-        return ResponseEntity.ok(CommunityResponseDTO.of("커뮤니티 글 목록 조회 성공", 200, communityService.getCommunity(accessToken, communityId)));
+        return ResponseEntity.ok(CommunityResponseDTO.of("커뮤니티 글 목록 조회 성공", 200, communityService.getCommunity(user, communityId)));
     }
 }
@@ -1,27 +1,37 @@
 package com.doners.donersbackend.api.controller;
 
 import com.doners.donersbackend.application.dto.request.donation.DonationApproveRequestDTO;
+import com.doners.donersbackend.application.dto.request.donation.DonationBulkApproveRequestDTO;
 import com.doners.donersbackend.application.dto.request.donation.DonationPatchDTO;
 import com.doners.donersbackend.application.dto.request.donation.DonationRegisterPostDTO;
 import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import com.doners.donersbackend.application.dto.response.donation.DonationBulkApproveResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationCheckResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationGetListWrapperResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationRecommendResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationResponseDTO;
 import com.doners.donersbackend.application.service.DonationService;
+import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.security.principal.CurrentUser;
+import com.doners.donersbackend.util.pagination.InvalidCursorException;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import springfox.documentation.annotations.ApiIgnore;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @Api(value = "Donation API", tags = {"Donation"})
 @CrossOrigin("*")
@@ -42,15 +52,15 @@ public class DonationController {
     })
     @PostMapping(consumes = {"multipart/form-data"})
     public ResponseEntity<? extends BaseResponseDTO> register(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @ApiParam(value = "기부 신청 정보", required = true) @Valid @RequestPart DonationRegisterPostDTO donationRegisterPostDTO,
             @ApiParam(value = "관계증명서") @RequestPart(required = false) MultipartFile certificate,
             @ApiParam(value = "대표 사진") @RequestPart(required = false) MultipartFile image,
-            @ApiParam(value = "증빙 자료", required = true) @RequestPart List<MultipartFile> evidence
+            @ApiParam(value = "증빙 자료 (큰 파일은 신청 후 증빙 자료 업로드 API 로 추가)", required = true) @RequestPart List<MultipartFile> evidence
     ) {
 
         try {
-            if (!donationService.createDonation(accessToken, donationRegisterPostDTO, certificate, image, evidence)) {
+            if (!donationService.createDonation(user, donationRegisterPostDTO, certificate, image, evidence)) {
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("신청자에 대한 기부글이 이미 존재합니다.", 409));
             }
         } catch (IllegalArgumentException e) {
@@ -63,9 +73,52 @@ public class DonationController {
 
     }
 
+    @ApiOperation(value = "증빙 자료 업로드", notes = "multipart/form-data 의 evidence 파트를 서버에 저장하지 않고 바로 S3 에 전송합니다.")
+    @ApiResponses({
+            @ApiResponse(code = 201, message = "증빙 자료 업로드에 성공했습니다."),
+            @ApiResponse(code = 400, message = "잘못된 업로드 요청입니다."),
+            @ApiResponse(code = 401, message = "증빙 자료 업로드 권한이 없습니다."),
+            @ApiResponse(code = 404, message = "기부글을 찾을 수 없습니다."),
+            @ApiResponse(code = 409, message = "심사 전인 기부글에만 증빙 자료를 업로드할 수 있습니다."),
+            @ApiResponse(code = 409, message = "증빙 자료 업로드에 실패했습니다."),
+            @ApiResponse(code = 413, message = "업로드할 수 있는 파일 크기를 초과했습니다."),
+            @ApiResponse(code = 503, message = "업로드 요청이 많습니다. 잠시 후 다시 시도해 주세요.")
+    })
+    @PostMapping(value = "/{donationId}/evidence", consumes = {"multipart/form-data"})
+    public ResponseEntity<? extends BaseResponseDTO> uploadEvidence(
+            @ApiIgnore @CurrentUser User user,
+            @ApiParam(value = "기부글 ID", required = true) @NotBlank @PathVariable String donationId,
+            @ApiIgnore HttpServletRequest request
+    ) {
+
+        try {
+            Integer code = donationService.uploadEvidenceStream(user, donationId, request);
+
+            if (code == 401) {
+                return ResponseEntity.status(401).body(BaseResponseDTO.of("증빙 자료 업로드 권한이 없습니다.", 401));
+            } else if (code == 409) {
+                return ResponseEntity.status(409).body(BaseResponseDTO.of("심사 전인 기부글에만 증빙 자료를 업로드할 수 있습니다.", 409));
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("기부글을 찾을 수 없습니다.", 404));
+        } catch (FileUploadBase.SizeException e) {
+            return ResponseEntity.status(413).body(BaseResponseDTO.of("업로드할 수 있는 파일 크기를 초과했습니다.", 413));
+        } catch (FileUploadException e) {
+            return ResponseEntity.status(400).body(BaseResponseDTO.of("잘못된 업로드 요청입니다.", 400));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(503).body(BaseResponseDTO.of("업로드 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 503));
+        } catch (Exception e) {
+            return ResponseEntity.status(409).body(BaseResponseDTO.of("증빙 자료 업로드에 실패했습니다.", 409));
+        }
+
+        return ResponseEntity.status(201).body(BaseResponseDTO.of("증빙 자료 업로드에 성공했습니다.", 201));
+
+    }
+
     @ApiOperation(value = "기부글 목록 조회")
     @ApiResponses({
             @ApiResponse(code = 200, message = "기부글 목록 조회에 성공했습니다."),
+            @ApiResponse(code = 400, message = "잘못된 형식의 커서입니다."),
             @ApiResponse(code = 404, message = "기부글 목록을 찾을 수 없습니다."),
             @ApiResponse(code = 409, message = "기부글 목록 조회에 실패했습니다.")
     })
@@ -74,13 +127,16 @@ public class DonationController {
             @ApiParam(value = "카테고리", required = true) @NotNull @RequestParam CategoryCode category,
             @ApiParam(value = "페이지 번호", required = true) @RequestParam(defaultValue = "1") int page,
             @ApiParam(value = "정렬 기준", required = true) @RequestParam(defaultValue = "1") int sort,
-            @ApiParam(value = "보기 기준", required = true) @RequestParam(defaultValue = "false") boolean view
+            @ApiParam(value = "보기 기준", required = true) @RequestParam(defaultValue = "false") boolean view,
+            @ApiParam(value = "다음 페이지 커서") @RequestParam(required = false) String cursor
     ) {
 
         DonationGetListWrapperResponseDTO donationGetListWrapperResponseDTO = null;
 
         try {
-            donationGetListWrapperResponseDTO = donationService.getDonationList(category, page, sort, view);
+            donationGetListWrapperResponseDTO = donationService.getDonationList(category, page, sort, view, cursor);
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(400).body(BaseResponseDTO.of("잘못된 형식의 커서입니다.", 400));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("기부글 목록을 찾을 수 없습니다.", 404));
         } catch (Exception e) {
@@ -124,14 +180,14 @@ public class DonationController {
     })
     @PatchMapping("/recommend")
     public ResponseEntity<? extends BaseResponseDTO> recommend(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @ApiParam(value = "기부글 정보", required = true) @Valid @RequestBody DonationPatchDTO donationPatchDTO
     ) {
 
         DonationRecommendResponseDTO donationRecommendResponseDTO = null;
 
         try {
-            donationRecommendResponseDTO = donationService.recommendDonation(accessToken, donationPatchDTO);
+            donationRecommendResponseDTO = donationService.recommendDonation(user, donationPatchDTO);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("기부글을 찾을 수 없습니다.", 404));
         } catch (Exception e) {
@@ -145,6 +201,7 @@ public class DonationController {
     @ApiOperation(value = "기부글 검색")
     @ApiResponses({
             @ApiResponse(code = 200, message = "기부글 검색에 성공했습니다."),
+            @ApiResponse(code = 400, message = "잘못된 형식의 커서입니다."),
             @ApiResponse(code = 404, message = "기부글을 찾을 수 없습니다."),
             @ApiResponse(code = 409, message = "기부글 검색에 실패했습니다.")
     })
@@ -154,13 +211,16 @@ public class DonationController {
             @ApiParam(value = "검색 유형", required = true) @NotBlank @RequestParam String type,
             @ApiParam(value = "검색어", required = true) @RequestParam String keyword,
             @ApiParam(value = "페이지 번호", required = true) @RequestParam(defaultValue = "1") int page,
-            @ApiParam(value = "보기 기준", required = true) @RequestParam(defaultValue = "false") boolean view
+            @ApiParam(value = "보기 기준", required = true) @RequestParam(defaultValue = "false") boolean view,
+            @ApiParam(value = "다음 페이지 커서") @RequestParam(required = false) String cursor
     ) {
 
         DonationGetListWrapperResponseDTO donationGetListWrapperResponseDTO = null;
 
         try {
-            donationGetListWrapperResponseDTO = donationService.searchDonation(category, type, keyword, page, view);
+            donationGetListWrapperResponseDTO = donationService.searchDonation(category, type, keyword, page, view, cursor);
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(400).body(BaseResponseDTO.of("잘못된 형식의 커서입니다.", 400));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("기부글을 찾을 수 없습니다.", 404));
         } catch (Exception e) {
@@ -178,16 +238,18 @@ public class DonationController {
             @ApiResponse(code = 401, message = "기부글 승인 권한이 없습니다."),
             @ApiResponse(code = 404, message = "기부글을 찾을 수 없습니다."),
             @ApiResponse(code = 409, message = "이미 승인된 기부글 입니다."),
+            @ApiResponse(code = 409, message = "증빙 자료가 없는 기부글은 승인할 수 없습니다."),
+            @ApiResponse(code = 409, message = "업로드가 끝나지 않았거나 실패한 파일이 있는 기부글은 승인할 수 없습니다."),
             @ApiResponse(code = 409, message = "기부글 신청 승인에 실패했습니다.")
     })
     @PatchMapping("/approve")
     public ResponseEntity<? extends BaseResponseDTO> approve(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @ApiParam(value = "기부글 승인 정보", required = true) @Valid @RequestBody DonationApproveRequestDTO donationApproveRequestDTO
     ) {
 
         try {
-            Integer result = donationService.approveDonation(accessToken, donationApproveRequestDTO);
+            Integer result = donationService.approveDonation(user, donationApproveRequestDTO);
 
             if (result == 0) {
                 return ResponseEntity.status(401).body(BaseResponseDTO.of("기부글 승인 권한이 없습니다.", 401));
@@ -195,6 +257,10 @@ public class DonationController {
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("이미 승인된 기부글 입니다.", 409));
             } else if (result == 2) {
                 return ResponseEntity.ok(BaseResponseDTO.of("기부글 신청이 거절되었습니다.", 200));
+            } else if (result == 4) {
+                return ResponseEntity.status(409).body(BaseResponseDTO.of("증빙 자료가 없는 기부글은 승인할 수 없습니다.", 409));
+            } else if (result == 5) {
+                return ResponseEntity.status(409).body(BaseResponseDTO.of("업로드가 끝나지 않았거나 실패한 파일이 있는 기부글은 승인할 수 없습니다.", 409));
             }
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("기부글을 찾을 수 없습니다.", 404));
@@ -206,6 +272,35 @@ public class DonationController {
 
     }
 
+    @ApiOperation(value = "기부글 신청 일괄 승인 / 거절")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "기부글 신청 일괄 처리에 성공했습니다."),
+            @ApiResponse(code = 401, message = "기부글 승인 권한이 없습니다."),
+            @ApiResponse(code = 404, message = "회원 정보를 찾을 수 없습니다."),
+            @ApiResponse(code = 409, message = "기부글 신청 일괄 처리에 실패했습니다.")
+    })
+    @PatchMapping("/approve/bulk")
+    public ResponseEntity<? extends BaseResponseDTO> approveList(
+            @ApiIgnore @CurrentUser User user,
+            @ApiParam(value = "기부글 승인 정보 목록", required = true) @Valid @RequestBody DonationBulkApproveRequestDTO donationBulkApproveRequestDTO
+    ) {
+
+        DonationBulkApproveResponseDTO donationBulkApproveResponseDTO = null;
+
+        try {
+            donationBulkApproveResponseDTO = donationService.approveDonationList(user, donationBulkApproveRequestDTO);
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(401).body(BaseResponseDTO.of("기부글 승인 권한이 없습니다.", 401));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("회원 정보를 찾을 수 없습니다.", 404));
+        } catch (Exception e) {
+            return ResponseEntity.status(409).body(BaseResponseDTO.of("기부글 신청 일괄 처리에 실패했습니다.", 409));
+        }
+
+        return ResponseEntity.ok(DonationBulkApproveResponseDTO.of("기부글 신청 일괄 처리에 성공했습니다.", 200, donationBulkApproveResponseDTO));
+
+    }
+
     @ApiOperation(value = "기부글 신청 기록 존재 여부 확인")
     @ApiResponses({
             @ApiResponse(code = 200, message = "기부글 신청 기록이 존재합니다."),
@@ -214,11 +309,11 @@ public class DonationController {
     })
     @GetMapping("/check")
     public ResponseEntity<? extends BaseResponseDTO> check(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken
+            @ApiIgnore @CurrentUser User user
     ) {
 
         try {
-            DonationCheckResponseDTO donationCheckResponseDTO = donationService.checkDonation(accessToken);
+            DonationCheckResponseDTO donationCheckResponseDTO = donationService.checkDonation(user);
 
             if (donationCheckResponseDTO.isCheck()) {
                 return ResponseEntity.ok(DonationCheckResponseDTO.of("기부글 신청 기록이 존재합니다.", 200, donationCheckResponseDTO));
@@ -239,11 +334,11 @@ public class DonationController {
     })
     @GetMapping("/check/approve")
     public ResponseEntity<? extends BaseResponseDTO> checkApproved(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken
+            @ApiIgnore @CurrentUser User user
     ) {
 
         try {
-            DonationCheckResponseDTO donationCheckResponseDTO = donationService.checkApprovedDonation(accessToken);
+            DonationCheckResponseDTO donationCheckResponseDTO = donationService.checkApprovedDonation(user);
 
             if (donationCheckResponseDTO.isCheck()) {
                 return ResponseEntity.ok(DonationCheckResponseDTO.of("승인된 기부글이 존재합니다.", 200, donationCheckResponseDTO));
@@ -264,11 +359,11 @@ public class DonationController {
     })
     @PatchMapping("/receive")
     public ResponseEntity<? extends BaseResponseDTO> receiveDonation(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @RequestBody @ApiParam(value = "기부 ID", required = true) DonationPatchDTO donationPatchDTO) {
 
         try {
-            Integer code = donationService.receiveDonation(accessToken, donationPatchDTO);
+            Integer code = donationService.receiveDonation(user, donationPatchDTO);
 
             if (code == 401) {
                 return ResponseEntity.status(401).body(BaseResponseDTO.of("기부 수령 완료 처리 권한이 없습니다.", 401));
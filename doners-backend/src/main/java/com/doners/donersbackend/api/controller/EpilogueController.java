@@ -7,6 +7,8 @@ import com.doners.donersbackend.application.dto.response.epilogue.EpilogueGetLis
 import com.doners.donersbackend.application.dto.response.epilogue.EpilogueResponseDTO;
 import com.doners.donersbackend.application.service.EpilogueService;
 import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.security.principal.CurrentUser;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -33,12 +35,12 @@ public class EpilogueController {
             @ApiResponse(code=409, message="에필로그를 생성하지 못했습니다")
     })
     public ResponseEntity<? extends BaseResponseDTO> registerEpilogue(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @Valid @ApiParam(value="에필로그 정보", required=true) @RequestPart EpilogueRegisterPostDTO epilogueRegisterPostDTO,
             @ApiParam(value = "썸네일 사진") @Valid @RequestPart(value = "multipartFile", required = false) MultipartFile multipartFile) {
 
         try {
-            epilogueService.registerEpilogue(accessToken, epilogueRegisterPostDTO, multipartFile);
+            epilogueService.registerEpilogue(user, epilogueRegisterPostDTO, multipartFile);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("작성자 정보를 찾을 수 없습니다.", 404));
         } catch (Exception e) {
@@ -56,11 +58,11 @@ public class EpilogueController {
             @ApiResponse(code=409, message="에필로그 내용을 수정하지 못했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> changeEpilogue(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @RequestBody @Valid @ApiParam(value="수정할 에필로그 내용", required=true) EpilogueChangePatchDTO epilogueChangePatchDTO) {
 
         try {
-            Integer statusCode = epilogueService.changeEpilogue(accessToken, epilogueChangePatchDTO);
+            Integer statusCode = epilogueService.changeEpilogue(user, epilogueChangePatchDTO);
 
             if(statusCode == 409)
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("에필로그 내용을 수정하지 못했습니다.", 409));
@@ -79,11 +81,11 @@ public class EpilogueController {
             @ApiResponse(code=409, message="에필로그를 삭제하지 못했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> deleteEpilogue(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("epilogueId") @ApiParam(value="에필로그 ID", required=true) String epilogueId) {
 
         try {
-            Integer statusCode = epilogueService.deleteEpilogue(accessToken, epilogueId);
+            Integer statusCode = epilogueService.deleteEpilogue(user, epilogueId);
 
             if(statusCode == 409)
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("에필로그를 삭제하지 못했습니다.", 409));
@@ -100,10 +102,10 @@ public class EpilogueController {
             @ApiResponse(code=200, message="에필로그 목록을 불러왔습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getEpilogueList(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("sequence") @ApiParam(value="", required=true) int sequence) {
 
-        return ResponseEntity.ok(EpilogueGetListWrapperResponseDTO.of("에필로그 목록을 불러왔습니다.", 200, epilogueService.getEpilogueList(accessToken, sequence)));
+        return ResponseEntity.ok(EpilogueGetListWrapperResponseDTO.of("에필로그 목록을 불러왔습니다.", 200, epilogueService.getEpilogueList(user, sequence)));
     }
 
     @GetMapping("/{epilogueId}")
@@ -112,10 +114,10 @@ public class EpilogueController {
             @ApiResponse(code=200, message="에필로그 상세내용을 불러왔습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getEpilogue(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("epilogueId") @ApiParam(value="에필로그 ID", required=true) String epilogueId) {
 
-        return ResponseEntity.ok(EpilogueResponseDTO.of("에필로그 상세내용을 불러왔습니다.", 200, epilogueService.getEpilogue(accessToken, epilogueId)));
+        return ResponseEntity.ok(EpilogueResponseDTO.of("에필로그 상세내용을 불러왔습니다.", 200, epilogueService.getEpilogue(user, epilogueId)));
     }
 
     @ApiOperation(value = "에필로그 존재 여부 확인")
@@ -125,12 +127,12 @@ public class EpilogueController {
     })
     @GetMapping("/check/{donationId}")
     public ResponseEntity<? extends BaseResponseDTO> checkIfEpilogueExists(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("donationId") @ApiParam(value="기부 ID", required=true) String donationId) {
         EpilogueCheckResponseDTO epilogueCheckResponseDTO = null;
 
         try {
-            epilogueCheckResponseDTO = epilogueService.checkIfEpilogueExists(accessToken, donationId);
+            epilogueCheckResponseDTO = epilogueService.checkIfEpilogueExists(user, donationId);
         } catch (Exception e) {
             return ResponseEntity.status(409).body(BaseResponseDTO.of("해당 기부에 대한 에필로그 존재 여부를 불러오지 못했습니다.", 409));
         }
@@ -1,13 +1,20 @@
 package com.doners.donersbackend.api.controller;
 
+import com.doners.donersbackend.application.dto.request.donation.NotificationBulkReadPatchDTO;
 import com.doners.donersbackend.application.dto.request.donation.NotificationReadPatchDTO;
 import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.NotificationGetListWrapperResponseDTO;
+import com.doners.donersbackend.application.dto.response.donation.NotificationUnreadResponseDTO;
 import com.doners.donersbackend.application.service.NotificationService;
+import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.security.principal.CurrentUser;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
@@ -29,11 +36,12 @@ public class NotificationController {
     })
     @GetMapping
     public ResponseEntity<? extends BaseResponseDTO> get(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken
+            @ApiIgnore @CurrentUser User user,
+            @ApiParam(value = "페이지 번호") @RequestParam(defaultValue = "1") int page
     ) {
 
         try {
-            return ResponseEntity.ok(NotificationGetListWrapperResponseDTO.of("알림 확인에 성공했습니다.", 200, notificationService.getNotification(accessToken)));
+            return ResponseEntity.ok(NotificationGetListWrapperResponseDTO.of("알림 확인에 성공했습니다.", 200, notificationService.getNotification(user, Math.max(page, 1))));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("알림 확인에 필요한 정보를 찾을 수 없습니다.", 404));
         } catch (Exception e) {
@@ -43,6 +51,29 @@ public class NotificationController {
 
     }
 
+    @ApiOperation(value = "실시간 알림 구독 (Server-Sent Events, 재연결 시 Last-Event-ID 이후 알림부터 전송)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "알림 구독에 성공했습니다."),
+            @ApiResponse(code = 404, message = "알림 구독에 필요한 정보를 찾을 수 없습니다.")
+    })
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
+            @ApiIgnore @CurrentUser User user,
+            @ApiIgnore @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+
+        try {
+            // nginx 등 프록시가 이벤트를 모아서 보내지 않도록 버퍼링 해제
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .body(notificationService.subscribe(user, lastEventId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).build();
+        }
+
+    }
+
     @ApiOperation(value = "알림 읽음 처리")
     @ApiResponses({
             @ApiResponse(code = 200, message = "알림을 읽었습니다."),
@@ -51,12 +82,55 @@ public class NotificationController {
     })
     @PatchMapping
     public ResponseEntity<? extends BaseResponseDTO> read(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @ApiParam(value = "알림 정보", required = true) @Valid @RequestBody NotificationReadPatchDTO notificationReadPatchDTO
     ) {
 
         try {
-            notificationService.readNotification(accessToken, notificationReadPatchDTO);
+            notificationService.readNotification(user, notificationReadPatchDTO);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("알림을 읽는 데 필요한 정보를 찾을 수 없습니다.", 404));
+        } catch (Exception e) {
+            return ResponseEntity.status(409).body(BaseResponseDTO.of("알림을 읽는 데 실패했습니다.", 409));
+        }
+
+        return ResponseEntity.ok(BaseResponseDTO.of("알림을 읽었습니다.", 200));
+
+    }
+
+    @ApiOperation(value = "읽지 않은 알림 수")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "읽지 않은 알림 수 조회에 성공했습니다."),
+            @ApiResponse(code = 404, message = "읽지 않은 알림 수 조회에 필요한 정보를 찾을 수 없습니다.")
+    })
+    @GetMapping("/unread")
+    public ResponseEntity<? extends BaseResponseDTO> getUnreadCount(
+            @ApiIgnore @CurrentUser User user
+    ) {
+
+        try {
+            return ResponseEntity.ok(NotificationUnreadResponseDTO.of("읽지 않은 알림 수 조회에 성공했습니다.", 200,
+                    NotificationUnreadResponseDTO.builder().unreadCount(notificationService.getUnreadCount(user)).build()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(BaseResponseDTO.of("읽지 않은 알림 수 조회에 필요한 정보를 찾을 수 없습니다.", 404));
+        }
+
+    }
+
+    @ApiOperation(value = "알림 일괄 읽음 처리 (전체 또는 선택한 알림)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "알림을 읽었습니다."),
+            @ApiResponse(code = 404, message = "알림을 읽는 데 필요한 정보를 찾을 수 없습니다."),
+            @ApiResponse(code = 409, message = "알림을 읽는 데 실패했습니다.")
+    })
+    @PatchMapping("/bulk")
+    public ResponseEntity<? extends BaseResponseDTO> readList(
+            @ApiIgnore @CurrentUser User user,
+            @ApiParam(value = "읽음 처리할 알림 정보", required = true) @RequestBody NotificationBulkReadPatchDTO notificationBulkReadPatchDTO
+    ) {
+
+        try {
+            notificationService.readNotificationList(user, notificationBulkReadPatchDTO);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("알림을 읽는 데 필요한 정보를 찾을 수 없습니다.", 404));
         } catch (Exception e) {
@@ -7,7 +7,11 @@ import com.doners.donersbackend.application.dto.response.user.*;
 import com.doners.donersbackend.application.service.DonationService;
 import com.doners.donersbackend.application.service.UserService;
 import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.security.principal.CurrentUser;
 import com.doners.donersbackend.security.util.JwtAuthenticationProvider;
+import com.doners.donersbackend.util.pagination.InvalidCursorException;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -95,12 +99,12 @@ public class UserController {
             @ApiResponse(code=409, message="해당 회원의 메타마스크 지갑 주소를 불러오지 못했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getAccount(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("userNickname") @ApiParam(value="닉네임", required=true) String userNickname) {
         UserAccountResponseDTO userAccountResponseDTO = null;
 
         try {
-            userAccountResponseDTO = userService.getUserAccountResponseDTO(accessToken, userNickname);
+            userAccountResponseDTO = userService.getUserAccountResponseDTO(user, userNickname);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("해당 회원이 존재하지 않습니다.", 404));
         } catch (Exception e) {
@@ -118,12 +122,12 @@ public class UserController {
             @ApiResponse(code=409, message="해당 회원의 이름을 불러오지 못했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getName(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("userNickname") @ApiParam(value="닉네임", required=true) String userNickname) {
         UserNameResponseDTO userNameResponseDTO = null;
 
         try {
-            userNameResponseDTO = userService.getUserNameResponseDTO(accessToken, userNickname);
+            userNameResponseDTO = userService.getUserNameResponseDTO(user, userNickname);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("해당 회원이 존재하지 않습니다.", 404));
         } catch (Exception e) {
@@ -141,10 +145,10 @@ public class UserController {
             @ApiResponse(code=409, message="닉네임 변경에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> changeNickname(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @RequestBody @ApiParam(value="변경할 닉네임", required=true) UserNicknameChangeRequestDTO userNicknameChangeRequestDTO) {
         try {
-            Integer statusCode = userService.changeUserNickname(accessToken, userNicknameChangeRequestDTO.getUserNickname());
+            Integer statusCode = userService.changeUserNickname(user, userNicknameChangeRequestDTO.getUserNickname());
 
             if(statusCode == 409)
                 return ResponseEntity.status(409).body(BaseResponseDTO.of("닉네임 변경에 실패했습니다.", 409));
@@ -183,10 +187,10 @@ public class UserController {
             @ApiResponse(code=409, message="프로필 이미지 등록에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> uploadProfileImage(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @ApiParam(value="프로필 이미지", required=true) @RequestPart MultipartFile multipartFile) {
         try {
-            userService.uploadProfileImage(accessToken, multipartFile);
+            userService.uploadProfileImage(user, multipartFile);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("회원 정보를 찾을 수 없습니다.", 404));
         } catch (Exception e) {
@@ -205,12 +209,12 @@ public class UserController {
             @ApiResponse(code=409, message="프로필 이미지 주소를 불러오는데에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getProfileImage(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken,
+            @ApiIgnore @CurrentUser User user,
             @PathVariable("userNickname") @ApiParam(value="유저 닉네임", required=true) String userNickname) {
         String profileImage = null;
 
         try {
-            profileImage = userService.getProfileImage(accessToken, userNickname);
+            profileImage = userService.getProfileImage(user, userNickname);
 
             UserProfileImageResponseDTO userProfileImageResponseDTO = UserProfileImageResponseDTO.builder().profileImage(profileImage).build();
 
@@ -231,9 +235,9 @@ public class UserController {
             @ApiResponse(code=409, message="회원 탈퇴에 실패했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> deleteUser(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken) {
+            @ApiIgnore @CurrentUser User user) {
         try {
-            userService.deleteUser(accessToken);
+            userService.deleteUser(user);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(409).body(BaseResponseDTO.of("현재 프로필 정보로 된 회원 정보를 찾을 수 없습니다.", 409));
         } catch (Exception e) {
@@ -251,11 +255,11 @@ public class UserController {
             @ApiResponse(code=409, message="커뮤니티 글 작성 목록을 불러오지 못했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getCommunityHistory(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken) {
+            @ApiIgnore @CurrentUser User user) {
         UserMyPageCommunityHistoryWrapperResponseDTO communityHistoryWrapperResponseDTO = null;
 
         try {
-            communityHistoryWrapperResponseDTO = userService.getCommunityHistoryList(accessToken);
+            communityHistoryWrapperResponseDTO = userService.getCommunityHistoryList(user);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("조회하려는 정보가 존재하지 않습니다.", 404));
         } catch (Exception e) {
@@ -274,11 +278,11 @@ public class UserController {
             @ApiResponse(code=409, message="에필로그 작성 목록을 불러오지 못했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getEpilogueHistory(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken) {
+            @ApiIgnore @CurrentUser User user) {
         UserMyPageEpilogueHistoryWrapperResponseDTO epilogueHistoryWrapperResponseDTO = null;
 
         try {
-            epilogueHistoryWrapperResponseDTO = userService.getEpilogueHistoryList(accessToken);
+            epilogueHistoryWrapperResponseDTO = userService.getEpilogueHistoryList(user);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("조회하려는 정보가 존재하지 않습니다.", 404));
         } catch (Exception e) {
@@ -297,11 +301,11 @@ public class UserController {
             @ApiResponse(code=409, message="기부 신청 목록을 불러오지 못했습니다."),
     })
     public ResponseEntity<? extends BaseResponseDTO> getDonationHistory(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken) {
+            @ApiIgnore @CurrentUser User user) {
         UserMyPageDonationHistoryWrapperResponseDTO donationHistoryWrapperResponseDTO = null;
 
         try {
-            donationHistoryWrapperResponseDTO = userService.getDonationHistoryList(accessToken);
+            donationHistoryWrapperResponseDTO = userService.getDonationHistoryList(user);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("조회하려는 정보가 존재하지 않습니다.", 404));
         } catch (Exception e) {
@@ -316,15 +320,22 @@ public class UserController {
     @ApiOperation(value="미승인 기부 요청 목록 조회")
     @ApiResponses({
             @ApiResponse(code=200, message="미승인 기부 요청 목록을 정상적으로 불러왔습니다."),
+            @ApiResponse(code=400, message="잘못된 형식의 커서입니다."),
             @ApiResponse(code=404, message="미승인 기부 요청 목록이 없습니다."),
             @ApiResponse(code=409, message="관리자가 아니어서 미승인 기부 요청 목록을 불러오지 못했습니다.")
     })
     public ResponseEntity<? extends BaseResponseDTO> getPendingDonationList(
-            @ApiIgnore @RequestHeader("Authorization") String accessToken) {
+            @ApiIgnore @CurrentUser User user,
+            @ApiParam(value="카테고리") @RequestParam(required = false) CategoryCode category,
+            @ApiParam(value="대리인 여부") @RequestParam(required = false) Boolean deputy,
+            @ApiParam(value="페이지 번호") @RequestParam(defaultValue = "1") int page,
+            @ApiParam(value="다음 페이지 커서") @RequestParam(required = false) String cursor) {
         DonationGetListWrapperResponseDTO donationGetListWrapperResponseDTO = null;
 
         try {
-            donationGetListWrapperResponseDTO = donationService.getPendingDonationList(accessToken);
+            donationGetListWrapperResponseDTO = donationService.getPendingDonationList(user, category, deputy, page, cursor);
+        } catch (InvalidCursorException e) {
+            return ResponseEntity.status(400).body(BaseResponseDTO.of("잘못된 형식의 커서입니다.", 400));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(BaseResponseDTO.of("미승인 기부 요청 목록이 없습니다.", 404));
         } catch (Exception e) {
@@ -0,0 +1,54 @@
+package com.doners.donersbackend.application.backfill;
+
+import com.doners.donersbackend.domain.dao.community.Community;
+import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
+import com.doners.donersbackend.domain.repository.CommunityRepository;
+import com.doners.donersbackend.domain.repository.epilogue.EpilogueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 요약 컬럼 추가 전에 작성된 글의 요약 채우기
+// 처리한 행은 조건에서 빠지므로 항상 첫 페이지만 조회
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExcerptBackfill {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final CommunityRepository communityRepository;
+
+    private final EpilogueRepository epilogueRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+
+        int communities = 0;
+        List<Community> communityList;
+
+        while (!(communityList = communityRepository.findByCommunityExcerptIsNull(PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            communityList.forEach(Community::changeExcerpt);
+            communityRepository.saveAll(communityList);
+            communities += communityList.size();
+        }
+
+        int epilogues = 0;
+        List<Epilogue> epilogueList;
+
+        while (!(epilogueList = epilogueRepository.findByEpilogueExcerptIsNull(PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            epilogueList.forEach(Epilogue::changeExcerpt);
+            epilogueRepository.saveAll(epilogueList);
+            epilogues += epilogueList.size();
+        }
+
+        if (communities + epilogues > 0) log.info("excerpt backfill : community {}, epilogue {}", communities, epilogues);
+
+    }
+
+}
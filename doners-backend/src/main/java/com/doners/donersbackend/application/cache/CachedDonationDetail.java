@@ -0,0 +1,61 @@
+package com.doners.donersbackend.application.cache;
+
+import com.doners.donersbackend.application.dto.response.donation.DonationBudgetResponseDTO;
+import com.doners.donersbackend.application.dto.response.donation.DonationResponseDTO;
+import com.doners.donersbackend.application.dto.response.donation.FileResponseDTO;
+import lombok.Getter;
+
+// 캐시에 저장되는 기부글 상세 정보 + 조회 시점의 누적 카운터 값
+@Getter
+public class CachedDonationDetail {
+
+    // 객체 / 필드 오버헤드 대략치 (byte)
+    private static final int BASE_WEIGHT = 512;
+
+    private static final int ITEM_WEIGHT = 64;
+
+    private final DonationResponseDTO donationResponseDTO;
+
+    private final String userId;
+
+    // 조회 시점의 누적 조회수 / 추천수 (이후 증가량은 카운터에서 더함)
+    private final long totalViews;
+
+    private final long totalRecommendations;
+
+    private final long weight;
+
+    public CachedDonationDetail(DonationResponseDTO donationResponseDTO, String userId, long totalViews, long totalRecommendations) {
+        this.donationResponseDTO = donationResponseDTO;
+        this.userId = userId;
+        this.totalViews = totalViews;
+        this.totalRecommendations = totalRecommendations;
+        this.weight = weigh(donationResponseDTO);
+    }
+
+    // 문자열 길이 기준으로 대략적인 메모리 크기 계산
+    private static long weigh(DonationResponseDTO dto) {
+
+        long weight = BASE_WEIGHT;
+
+        weight += 2L * (length(dto.getContractAddress()) + length(dto.getTitle()) + length(dto.getDescription())
+                + length(dto.getImage()) + length(dto.getAccount()) + length(dto.getName()) + length(dto.getNickname())
+                + length(dto.getEmail()) + length(dto.getPhone()) + length(dto.getBeneficiaryName()));
+
+        if (dto.getBudget() != null) {
+            for (DonationBudgetResponseDTO budget : dto.getBudget()) weight += ITEM_WEIGHT + 2L * length(budget.getPlan());
+        }
+
+        if (dto.getEvidence() != null) {
+            for (FileResponseDTO file : dto.getEvidence()) weight += ITEM_WEIGHT + 2L * (length(file.getName()) + length(file.getUrl()));
+        }
+
+        return weight;
+
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.doners.donersbackend.application.cache;
+
+import com.doners.donersbackend.application.counter.CounterType;
+import com.doners.donersbackend.application.counter.EngagementCounterService;
+import com.doners.donersbackend.application.event.DonationChangedEvent;
+import com.doners.donersbackend.application.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+// 기부글 상세 정보 캐시
+// 전체 크기(weight) 기준 LRU 로 제한하고, 동시에 같은 기부글을 조회하면 한 요청만 DB 에서 조회 (나머지는 결과를 기다림)
+// 캐시에서 제거한 기부글은 조회수 / 추천수 누적 증가량 추적도 중지
+@Component
+public class DonationDetailCache {
+
+    private final long maxWeight;
+
+    // 다른 요청의 조회 결과를 기다리는 최대 시간 (넘으면 직접 조회)
+    private final long loadTimeout;
+
+    private final EngagementCounterService engagementCounterService;
+
+    // 접근 순서로 정렬 (가장 오래 사용하지 않은 항목부터 제거)
+    private final LinkedHashMap<String, CachedDonationDetail> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+
+    // 기부글 ID -> 조회 중인 결과 : 조회 중에 그 기부글(또는 작성자)이 무효화되면 결과를 저장하지 않음
+    private final Map<String, Load> loading = new ConcurrentHashMap<>();
+
+    public DonationDetailCache(@Value("${doners.cache.donation-detail.max-weight:16777216}") long maxWeight,
+                               @Value("${doners.cache.donation-detail.load-timeout:3000}") long loadTimeout,
+                               EngagementCounterService engagementCounterService) {
+        this.maxWeight = maxWeight;
+        this.loadTimeout = loadTimeout;
+        this.engagementCounterService = engagementCounterService;
+    }
+
+    public CachedDonationDetail get(String donationId, Supplier<CachedDonationDetail> loader) {
+
+        CachedDonationDetail cached = getIfPresent(donationId);
+
+        if (cached != null) return cached;
+
+        Load load = new Load();
+        Load inFlight = loading.putIfAbsent(donationId, load);
+
+        // 이미 다른 요청이 조회 중
+        if (inFlight != null) return await(inFlight.future, loader);
+
+        try {
+            CachedDonationDetail loaded = loader.get();
+
+            put(donationId, loaded, load);
+            load.future.complete(loaded);
+
+            return loaded;
+        } catch (RuntimeException e) {
+            load.future.completeExceptionally(e);
+            release(donationId);
+
+            throw e;
+        } finally {
+            loading.remove(donationId, load);
+        }
+
+    }
+
+    public void invalidate(String donationId) {
+
+        synchronized (entries) {
+            Load load = loading.get(donationId);
+
+            if (load != null) load.stale = true;
+
+            CachedDonationDetail removed = entries.remove(donationId);
+
+            if (removed != null) weight -= removed.getWeight();
+        }
+
+        release(donationId);
+
+    }
+
+    // 작성자의 모든 기부글 무효화
+    public void invalidateByUser(String userId) {
+
+        synchronized (entries) {
+            // 조회 중인 기부글은 작성자를 아직 모르므로 결과를 저장할 때 확인
+            loading.values().forEach(load -> load.staleUserIds.add(userId));
+
+            Iterator<Map.Entry<String, CachedDonationDetail>> iterator = entries.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                Map.Entry<String, CachedDonationDetail> entry = iterator.next();
+
+                if (userId.equals(entry.getValue().getUserId())) {
+                    weight -= entry.getValue().getWeight();
+                    iterator.remove();
+                    release(entry.getKey());
+                }
+            }
+        }
+
+    }
+
+    // 커밋 이후에 무효화 (트랜잭션이 없으면 즉시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDonationChanged(DonationChangedEvent event) {
+
+        if (event.getUserId() != null) invalidateByUser(event.getUserId());
+
+        invalidate(event.getDonationId());
+
+    }
+
+    // 닉네임 변경 시 작성자의 기부글 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+
+        invalidateByUser(event.getUserId());
+
+    }
+
+    private CachedDonationDetail getIfPresent(String donationId) {
+
+        synchronized (entries) {
+            return entries.get(donationId);
+        }
+
+    }
+
+    private void put(String donationId, CachedDonationDetail cached, Load load) {
+
+        // 한 항목이 전체 한도보다 크면 저장하지 않음
+        if (cached.getWeight() > maxWeight) {
+            release(donationId);
+            return;
+        }
+
+        synchronized (entries) {
+            if (load.stale || load.staleUserIds.contains(cached.getUserId())) {
+                release(donationId);
+                return;
+            }
+
+            CachedDonationDetail previous = entries.put(donationId, cached);
+
+            if (previous != null) weight -= previous.getWeight();
+
+            weight += cached.getWeight();
+
+            Iterator<Map.Entry<String, CachedDonationDetail>> iterator = entries.entrySet().iterator();
+
+            while (weight > maxWeight && iterator.hasNext()) {
+                Map.Entry<String, CachedDonationDetail> eldest = iterator.next();
+
+                weight -= eldest.getValue().getWeight();
+                iterator.remove();
+                release(eldest.getKey());
+            }
+        }
+
+    }
+
+    // 다른 요청의 조회 결과를 기다림 : 조회가 멈춘 경우 모든 요청이 함께 멈추지 않도록 시간이 지나면 직접 조회 (캐시에는 저장하지 않음)
+    private CachedDonationDetail await(CompletableFuture<CachedDonationDetail> future, Supplier<CachedDonationDetail> loader) {
+
+        try {
+            return future.get(loadTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("기부글 조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+
+            throw new IllegalStateException(e.getCause());
+        }
+
+    }
+
+    private void release(String donationId) {
+
+        engagementCounterService.untrack(CounterType.DONATION_VIEWS, donationId);
+        engagementCounterService.untrack(CounterType.DONATION_RECOMMENDATIONS, donationId);
+
+    }
+
+    // 조회 중인 결과 + 조회 중에 일어난 무효화 (entries 잠금 안에서만 변경 / 확인)
+    private static class Load {
+
+        private final CompletableFuture<CachedDonationDetail> future = new CompletableFuture<>();
+
+        private boolean stale;
+
+        private final Set<String> staleUserIds = new HashSet<>();
+
+    }
+
+}
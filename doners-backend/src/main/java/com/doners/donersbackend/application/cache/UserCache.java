@@ -0,0 +1,251 @@
+package com.doners.donersbackend.application.cache;
+
+import com.doners.donersbackend.application.event.UserChangedEvent;
+import com.doners.donersbackend.domain.dao.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 회원 캐시 (지갑 계정 / 닉네임 -> 회원)
+// 인증 필터와 닉네임 조회가 요청마다 user 테이블을 조회하지 않도록 개수 기준 LRU + TTL 로 보관
+// 탈퇴하지 않은 회원만 저장하고 닉네임 변경 / 탈퇴 / 가입 시 명시적으로 무효화
+// 저장된 회원은 영속성 컨텍스트와 분리된 객체이므로 변경할 때는 다시 조회해서 사용
+@Slf4j
+@Component
+public class UserCache {
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    // 지갑 계정 -> 회원 (접근 순서로 정렬, 가장 오래 사용하지 않은 항목부터 제거)
+    private final LinkedHashMap<String, CachedUser> entries = new LinkedHashMap<String, CachedUser>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+            if (size() <= maxSize) return false;
+
+            unindex(eldest.getValue().user);
+            evictions.incrementAndGet();
+
+            return true;
+        }
+    };
+
+    // 닉네임 -> 지갑 계정
+    private final Map<String, String> nicknames = new HashMap<>();
+
+    // 회원 ID -> 지갑 계정
+    private final Map<String, String> ids = new HashMap<>();
+
+    // 무효화가 일어날 때마다 증가 : 무효화 이전에 시작된 조회 결과는 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserCache(@Value("${doners.cache.user.max-size:10000}") int maxSize,
+                     @Value("${doners.cache.user.ttl:300000}") long ttl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    public Optional<User> getByAccount(String userAccount, Supplier<Optional<User>> loader) {
+
+        synchronized (entries) {
+            CachedUser cached = getIfFresh(userAccount);
+
+            if (cached != null) {
+                hits.incrementAndGet();
+
+                return Optional.of(cached.user);
+            }
+        }
+
+        return load(loader);
+
+    }
+
+    public Optional<User> getByNickname(String userNickname, Supplier<Optional<User>> loader) {
+
+        synchronized (entries) {
+            String userAccount = nicknames.get(userNickname);
+            CachedUser cached = userAccount == null ? null : getIfFresh(userAccount);
+
+            if (cached != null && userNickname.equals(cached.user.getUserNickname())) {
+                hits.incrementAndGet();
+
+                return Optional.of(cached.user);
+            }
+        }
+
+        return load(loader);
+
+    }
+
+    public void invalidateAccount(String userAccount) {
+
+        synchronized (entries) {
+            generation.incrementAndGet();
+
+            remove(userAccount);
+        }
+
+    }
+
+    public void invalidateNickname(String userNickname) {
+
+        synchronized (entries) {
+            generation.incrementAndGet();
+
+            String userAccount = nicknames.get(userNickname);
+
+            if (userAccount != null) remove(userAccount);
+        }
+
+    }
+
+    public void invalidateUser(String userId) {
+
+        synchronized (entries) {
+            generation.incrementAndGet();
+
+            String userAccount = ids.get(userId);
+
+            if (userAccount != null) remove(userAccount);
+        }
+
+    }
+
+    // 닉네임 변경 / 탈퇴 커밋 이후 무효화 (트랜잭션이 없으면 즉시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+
+        invalidateUser(event.getUserId());
+
+    }
+
+    @Scheduled(fixedDelayString = "${doners.cache.user.stats-interval:600000}")
+    public void logStats() {
+
+        long hit = hits.get();
+        long miss = misses.get();
+
+        if (hit + miss == 0) return;
+
+        log.info("회원 캐시 : hit {}, miss {}, hit ratio {}%, eviction {}, size {}",
+                hit, miss, hit * 100 / (hit + miss), evictions.get(), size());
+
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public int size() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+
+    }
+
+    private Optional<User> load(Supplier<Optional<User>> loader) {
+
+        misses.incrementAndGet();
+
+        long startGeneration = generation.get();
+
+        Optional<User> user = loader.get();
+
+        user.ifPresent(u -> put(u, startGeneration));
+
+        return user;
+
+    }
+
+    private void put(User user, long startGeneration) {
+
+        if (user.isUserIsDeleted() || user.getUserAccount() == null) return;
+
+        synchronized (entries) {
+            if (generation.get() != startGeneration) return;
+
+            remove(user.getUserAccount());
+
+            entries.put(user.getUserAccount(), new CachedUser(user, System.currentTimeMillis() + ttl));
+            ids.put(user.getId(), user.getUserAccount());
+
+            if (user.getUserNickname() != null) nicknames.put(user.getUserNickname(), user.getUserAccount());
+        }
+
+    }
+
+    // entries 잠금 안에서 호출
+    private CachedUser getIfFresh(String userAccount) {
+
+        CachedUser cached = entries.get(userAccount);
+
+        if (cached == null) return null;
+
+        if (cached.expireTime < System.currentTimeMillis()) {
+            remove(userAccount);
+
+            return null;
+        }
+
+        return cached;
+
+    }
+
+    // entries 잠금 안에서 호출
+    private void remove(String userAccount) {
+
+        CachedUser removed = entries.remove(userAccount);
+
+        if (removed != null) unindex(removed.user);
+
+    }
+
+    private void unindex(User user) {
+
+        ids.remove(user.getId(), user.getUserAccount());
+
+        if (user.getUserNickname() != null) nicknames.remove(user.getUserNickname(), user.getUserAccount());
+
+    }
+
+    private static class CachedUser {
+
+        private final User user;
+
+        private final long expireTime;
+
+        private CachedUser(User user, long expireTime) {
+            this.user = user;
+            this.expireTime = expireTime;
+        }
+
+    }
+
+}
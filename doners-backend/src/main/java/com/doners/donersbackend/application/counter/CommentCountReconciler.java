@@ -0,0 +1,62 @@
+package com.doners.donersbackend.application.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 커뮤니티 / 감사 글의 댓글 수, 마지막 댓글 시간 보정
+// 댓글 작성 / 삭제 시 증감으로 유지하지만 직접 수정된 데이터 등으로 어긋난 값은 실제 댓글 기준으로 다시 계산
+// 서버 시작 시 한 번 실행해서 컬럼 추가 전의 글도 채움
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private static final String COMMUNITY_QUERY = createQuery("community");
+
+    private static final String EPILOGUE_QUERY = createQuery("epilogue");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 변경 시간 컬럼 추가 전에 작성된 댓글은 작성 시간을 변경 시간으로 사용
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillUpdateTime() {
+
+        int comments = jdbcTemplate.update("UPDATE comment SET comment_update_time = comment_create_time WHERE comment_update_time IS NULL");
+
+        if (comments > 0) log.info("comment update time backfilled : {}", comments);
+
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${doners.comment-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+
+        int communities = jdbcTemplate.update(COMMUNITY_QUERY);
+        int epilogues = jdbcTemplate.update(EPILOGUE_QUERY);
+
+        if (communities + epilogues > 0) log.info("comment count reconciled : community {}, epilogue {}", communities, epilogues);
+
+    }
+
+    // 값이 다른 행만 갱신
+    private static String createQuery(String table) {
+
+        String count = table + "_comment_count";
+        String lastTime = table + "_last_comment_time";
+
+        return "UPDATE " + table + " t LEFT JOIN (" +
+                "SELECT " + table + "_id AS target_id, COUNT(*) AS comment_count, MAX(comment_create_time) AS last_comment_time " +
+                "FROM comment WHERE comment_is_deleted = false AND " + table + "_id IS NOT NULL GROUP BY " + table + "_id" +
+                ") c ON c.target_id = t.id " +
+                "SET t." + count + " = IFNULL(c.comment_count, 0), t." + lastTime + " = c.last_comment_time " +
+                "WHERE t." + count + " IS NULL OR t." + count + " <> IFNULL(c.comment_count, 0) " +
+                "OR NOT (t." + lastTime + " <=> c.last_comment_time)";
+
+    }
+
+}
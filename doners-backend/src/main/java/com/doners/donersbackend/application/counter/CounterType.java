@@ -0,0 +1,27 @@
+package com.doners.donersbackend.application.counter;
+
+import lombok.Getter;
+
+// 누적 후 일괄 반영하는 카운터 종류 (테이블, 컬럼)
+@Getter
+public enum CounterType {
+
+    DONATION_VIEWS("donation", "donation_views"),
+    DONATION_RECOMMENDATIONS("donation", "donation_recommendations"),
+    COMMUNITY_VIEWS("community", "community_views"),
+    EPILOGUE_VIEWS("epilogue", "epilogue_views");
+
+    private final String table;
+
+    private final String column;
+
+    CounterType(String table, String column) {
+        this.table = table;
+        this.column = column;
+    }
+
+    public String getUpdateQuery() {
+        return "UPDATE " + table + " SET " + column + " = IFNULL(" + column + ", 0) + ? WHERE id = ?";
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.doners.donersbackend.application.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수 / 추천수 write-behind 카운터
+// 요청마다 행 전체를 UPDATE 하지 않고 메모리에 누적한 뒤 주기적으로 "컬럼 = 컬럼 + ?" 로 일괄 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EngagementCounterService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 카운터 종류 -> (ID -> 아직 반영되지 않은 증가량)
+    private final Map<CounterType, ConcurrentHashMap<String, Counter>> pending = createMap();
+
+    // 카운터 종류 -> (ID -> 추적을 시작한 이후 누적 증가량) : 캐시된 응답의 조회수 보정용
+    // 캐시에 있는 ID 만 추적하고 캐시에서 제거되면 함께 제거 (조회된 모든 ID 가 계속 쌓이지 않도록)
+    private final Map<CounterType, ConcurrentHashMap<String, LongAdder>> totals = createMap();
+
+    private final Object flushLock = new Object();
+
+    public void increase(CounterType counterType, String id) {
+
+        // 키 잠금 안에서 증가 : flush 에서 같은 키를 제거하는 것과 겹치지 않음 (제거된 카운터에 증가하지 않도록)
+        pending.get(counterType).compute(id, (k, counter) -> {
+            Counter result = counter == null ? new Counter() : counter;
+            result.pending.increment();
+
+            return result;
+        });
+
+        LongAdder total = totals.get(counterType).get(id);
+
+        if (total != null) total.increment();
+
+    }
+
+    // 누적 증가량 추적 시작 (이미 추적 중이면 그대로) : 현재 누적 증가량 반환
+    public long track(CounterType counterType, String id) {
+
+        return totals.get(counterType).computeIfAbsent(id, k -> new LongAdder()).sum();
+
+    }
+
+    public void untrack(CounterType counterType, String id) {
+
+        totals.get(counterType).remove(id);
+
+    }
+
+    // DB 에 아직 반영되지 않은 증가량 (화면 표시 = DB 값 + 미반영 증가량)
+    public long getPending(CounterType counterType, String id) {
+
+        Counter counter = pending.get(counterType).get(id);
+
+        return counter == null ? 0L : counter.get();
+
+    }
+
+    // 추적을 시작한 이후 누적 증가량 (반영 여부와 무관, 추적 중이 아니면 0)
+    public long getTotal(CounterType counterType, String id) {
+
+        LongAdder adder = totals.get(counterType).get(id);
+
+        return adder == null ? 0L : adder.sum();
+
+    }
+
+    @Scheduled(fixedDelayString = "${doners.counter.flush-interval:5000}")
+    public void flush() {
+
+        synchronized (flushLock) {
+            pending.forEach(this::flush);
+        }
+
+    }
+
+    // 종료 시 남은 증가량 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+
+        flush();
+
+    }
+
+    private void flush(CounterType counterType, ConcurrentHashMap<String, Counter> counters) {
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Counter> flushingCounters = new ArrayList<>();
+
+        counters.forEach((id, counter) -> {
+            long delta = counter.pending.sum();
+
+            if (delta > 0) {
+                // 반영 중인 증가량으로 먼저 옮긴 뒤 미반영 증가량에서 뺌 (옮기는 동안 화면 표시가 줄어들지 않도록)
+                counter.flushing.addAndGet(delta);
+                counter.pending.add(-delta);
+
+                batchArgs.add(new Object[]{delta, id});
+                flushingCounters.add(counter);
+                return;
+            }
+
+            // 한 주기 동안 증가가 없던 항목은 제거 (증가와 같은 키 잠금 안에서 확인)
+            counters.computeIfPresent(id, (k, c) -> c.pending.sum() == 0 && c.flushing.get() == 0 ? null : c);
+        });
+
+        if (batchArgs.isEmpty()) return;
+
+        boolean failed = false;
+
+        try {
+            jdbcTemplate.batchUpdate(counterType.getUpdateQuery(), batchArgs);
+        } catch (RuntimeException e) {
+            failed = true;
+
+            log.error("{} 카운터 반영에 실패했습니다.", counterType, e);
+        } finally {
+            for (int i = 0; i < flushingCounters.size(); i++) {
+                Counter counter = flushingCounters.get(i);
+                long delta = (Long) batchArgs.get(i)[0];
+
+                // 반영 실패 시 다음 주기에 다시 시도
+                if (failed) counter.pending.add(delta);
+
+                counter.flushing.addAndGet(-delta);
+            }
+        }
+
+    }
+
+    private static <T> Map<CounterType, ConcurrentHashMap<String, T>> createMap() {
+
+        Map<CounterType, ConcurrentHashMap<String, T>> map = new EnumMap<>(CounterType.class);
+
+        for (CounterType counterType : CounterType.values()) map.put(counterType, new ConcurrentHashMap<>());
+
+        return map;
+
+    }
+
+    private static class Counter {
+
+        // 아직 반영되지 않은 증가량
+        private final LongAdder pending = new LongAdder();
+
+        // DB 에 반영 중인 증가량 : batch 가 끝날 때까지 화면 표시에 포함
+        private final AtomicLong flushing = new AtomicLong();
+
+        // 미반영 증가량을 먼저 읽음 (flush 는 flushing 에 먼저 더하므로 줄어든 값만 보이는 경우가 없음)
+        private long get() {
+            return pending.sum() + flushing.get();
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.doners.donersbackend.application.dto.request.donation;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@ApiModel("DonationBulkApproveRequestDTO")
+@Getter
+@ToString
+@NoArgsConstructor
+public class DonationBulkApproveRequestDTO {
+
+    @NotEmpty
+    @Size(max = 1000)
+    @Valid
+    @ApiModelProperty(name = "기부글 승인 정보 목록")
+    private List<DonationApproveRequestDTO> donationList;
+
+}
@@ -0,0 +1,21 @@
+package com.doners.donersbackend.application.dto.request.donation;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@ApiModel("NotificationBulkReadPatchDTO")
+@Getter
+@ToString
+public class NotificationBulkReadPatchDTO {
+
+    @ApiModelProperty(name = "전체 읽음 처리 여부")
+    private boolean all;
+
+    @ApiModelProperty(name = "읽음 처리할 알림 ID 목록 (전체 읽음이 아닐 때)")
+    private List<String> notificationIdList;
+
+}
@@ -17,9 +17,21 @@ public class CommentGetListWrapperResponseDTO extends BaseResponseDTO {
     @ApiModelProperty(name="커뮤니티 - 댓글 정보 리스트")
     private List<CommentResponseDTO> commentResponseDTOList;
 
-    @Builder
+    @ApiModelProperty(name="삭제된 댓글 ID 리스트 (since 조회 시)")
+    private List<String> deletedCommentIdList;
+
+    @ApiModelProperty(name="다음 변경분 조회 커서 (since)")
+    private String since;
+
     public CommentGetListWrapperResponseDTO(List<CommentResponseDTO> commentResponseDTOList) {
+        this(commentResponseDTOList, null, null);
+    }
+
+    @Builder
+    public CommentGetListWrapperResponseDTO(List<CommentResponseDTO> commentResponseDTOList, List<String> deletedCommentIdList, String since) {
         this.commentResponseDTOList = commentResponseDTOList;
+        this.deletedCommentIdList = deletedCommentIdList;
+        this.since = since;
     }
 
     public static CommentGetListWrapperResponseDTO of(Integer statusCode, String message, CommentGetListWrapperResponseDTO commentGetListWrapperResponseDto) {
@@ -0,0 +1,40 @@
+package com.doners.donersbackend.application.dto.response.comment;
+
+import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@ApiModel("CommentGetTreeWrapperResponseDTO")
+@Getter
+@ToString
+public class CommentGetTreeWrapperResponseDTO extends BaseResponseDTO {
+
+    @ApiModelProperty(name="댓글 트리 (최상위 댓글 기준 페이지)")
+    private List<CommentTreeResponseDTO> commentTreeResponseDTOList;
+
+    @ApiModelProperty(name="전체 최상위 댓글 수")
+    private long totalRootComments;
+
+    @ApiModelProperty(name="다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Builder
+    public CommentGetTreeWrapperResponseDTO(List<CommentTreeResponseDTO> commentTreeResponseDTOList, long totalRootComments, boolean hasNext) {
+        this.commentTreeResponseDTOList = commentTreeResponseDTOList;
+        this.totalRootComments = totalRootComments;
+        this.hasNext = hasNext;
+    }
+
+    public static CommentGetTreeWrapperResponseDTO of(Integer statusCode, String message, CommentGetTreeWrapperResponseDTO commentGetTreeWrapperResponseDTO) {
+        CommentGetTreeWrapperResponseDTO res = commentGetTreeWrapperResponseDTO;
+        res.setStatusCode(statusCode);
+        res.setMessage(message);
+
+        return res;
+    }
+}
@@ -24,12 +24,25 @@ public class CommentResponseDTO {
     @ApiModelProperty(name = "작성 시간")
     private LocalDateTime commentCreateTime;
 
-    @Builder
+    @ApiModelProperty(name = "부모 댓글 ID")
+    private String parentCommentId;
+
+    @ApiModelProperty(name = "마지막 변경 시간")
+    private LocalDateTime commentUpdateTime;
+
     public CommentResponseDTO(String commentId, LocalDateTime commentCreateTime, String commentDescription, String nickname) {
+        this(commentId, commentCreateTime, commentDescription, nickname, null, null);
+    }
+
+    @Builder
+    public CommentResponseDTO(String commentId, LocalDateTime commentCreateTime, String commentDescription, String nickname,
+                              String parentCommentId, LocalDateTime commentUpdateTime) {
         this.commentId = commentId;
         this.commentCreateTime = commentCreateTime;
         this.commentDescription = commentDescription;
         this.nickname = nickname;
+        this.parentCommentId = parentCommentId;
+        this.commentUpdateTime = commentUpdateTime;
     }
 
 }
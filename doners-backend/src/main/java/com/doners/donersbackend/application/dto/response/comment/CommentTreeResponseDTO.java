@@ -0,0 +1,41 @@
+package com.doners.donersbackend.application.dto.response.comment;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@ApiModel("CommentTreeResponseDTO")
+@Getter
+@ToString
+public class CommentTreeResponseDTO {
+    @ApiModelProperty(name = "댓글 ID")
+    private String commentId;
+
+    @ApiModelProperty(name = "댓글 내용")
+    private String commentDescription;
+
+    @ApiModelProperty(name = "작성자 닉네임")
+    private String nickname;
+
+    @ApiModelProperty(name = "작성 시간")
+    private LocalDateTime commentCreateTime;
+
+    @ApiModelProperty(name = "대댓글 목록")
+    private List<CommentTreeResponseDTO> children;
+
+    @Builder
+    public CommentTreeResponseDTO(String commentId, LocalDateTime commentCreateTime, String commentDescription, String nickname) {
+        this.commentId = commentId;
+        this.commentCreateTime = commentCreateTime;
+        this.commentDescription = commentDescription;
+        this.nickname = nickname;
+        this.children = new ArrayList<>();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.doners.donersbackend.application.dto.response.donation;
+
+import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@ApiModel("DonationBulkApproveResponseDTO")
+@Getter
+@ToString
+public class DonationBulkApproveResponseDTO extends BaseResponseDTO {
+
+    @ApiModelProperty(name = "승인된 기부글 수")
+    private int approvedCount;
+
+    @ApiModelProperty(name = "거절된 기부글 수")
+    private int rejectedCount;
+
+    @ApiModelProperty(name = "처리하지 못한 기부글 ID 목록 (없는 글, 이미 처리된 글, 잘못된 거절 사유)")
+    private List<String> failedDonationIdList;
+
+    @Builder
+    public DonationBulkApproveResponseDTO(int approvedCount, int rejectedCount, List<String> failedDonationIdList) {
+        this.approvedCount = approvedCount;
+        this.rejectedCount = rejectedCount;
+        this.failedDonationIdList = failedDonationIdList;
+    }
+
+    public static DonationBulkApproveResponseDTO of(String message, Integer statusCode, DonationBulkApproveResponseDTO donationBulkApproveResponseDTO) {
+        DonationBulkApproveResponseDTO res = donationBulkApproveResponseDTO;
+        res.setMessage(message);
+        res.setStatusCode(statusCode);
+
+        return res;
+    }
+
+}
@@ -17,9 +17,13 @@ public class DonationGetListWrapperResponseDTO extends BaseResponseDTO {
     @ApiModelProperty(name = "기부글 목록")
     private List<DonationGetListResponseDTO> donationGetListResponseDTOList;
 
+    @ApiModelProperty(name = "다음 페이지 커서")
+    private String nextCursor;
+
     @Builder
-    public DonationGetListWrapperResponseDTO(List<DonationGetListResponseDTO> donationGetListResponseDTOList) {
+    public DonationGetListWrapperResponseDTO(List<DonationGetListResponseDTO> donationGetListResponseDTOList, String nextCursor) {
         this.donationGetListResponseDTOList = donationGetListResponseDTOList;
+        this.nextCursor = nextCursor;
     }
 
     public static DonationGetListWrapperResponseDTO of(String message, Integer statusCode, DonationGetListWrapperResponseDTO donationGetListWrapperResponseDTO) {
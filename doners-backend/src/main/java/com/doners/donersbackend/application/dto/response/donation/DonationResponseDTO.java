@@ -117,4 +117,31 @@ public class DonationResponseDTO extends BaseResponseDTO {
         this.beneficiaryName = beneficiaryName;
     }
 
+    // 캐시된 응답을 그대로 내보내지 않도록 조회수 / 추천수만 바꾼 복사본 생성
+    public DonationResponseDTO copy(long views, long recommendations) {
+        return DonationResponseDTO.builder()
+                .contractAddress(contractAddress)
+                .title(title)
+                .categoryCode(categoryCode)
+                .views(views)
+                .recommendations(recommendations)
+                .description(description)
+                .image(image)
+                .startDate(startDate)
+                .endDate(endDate)
+                .account(account)
+                .targetAmount(targetAmount)
+                .budget(budget)
+                .name(name)
+                .nickname(nickname)
+                .email(email)
+                .phone(phone)
+                .deputy(deputy)
+                .beneficiaryName(beneficiaryName)
+                .exist(exist)
+                .approvalStatusCode(approvalStatusCode)
+                .evidence(evidence)
+                .build();
+    }
+
 }
@@ -17,10 +17,14 @@ public class FileResponseDTO {
     @ApiModelProperty(name = "주소")
     private String url;
 
+    @ApiModelProperty(name = "업로드 실패 여부")
+    private boolean uploadFailed;
+
     @Builder
-    public FileResponseDTO(String name, String url) {
+    public FileResponseDTO(String name, String url, boolean uploadFailed) {
         this.name = name;
         this.url = url;
+        this.uploadFailed = uploadFailed;
     }
 
 }
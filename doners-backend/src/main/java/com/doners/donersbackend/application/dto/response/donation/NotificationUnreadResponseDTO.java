@@ -0,0 +1,31 @@
+package com.doners.donersbackend.application.dto.response.donation;
+
+import com.doners.donersbackend.application.dto.response.BaseResponseDTO;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@ApiModel("NotificationUnreadResponseDTO")
+@Getter
+@ToString
+public class NotificationUnreadResponseDTO extends BaseResponseDTO {
+
+    @ApiModelProperty(name = "읽지 않은 알림 수")
+    private long unreadCount;
+
+    @Builder
+    public NotificationUnreadResponseDTO(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public static NotificationUnreadResponseDTO of(String message, Integer statusCode, NotificationUnreadResponseDTO notificationUnreadResponseDTO) {
+        NotificationUnreadResponseDTO res = notificationUnreadResponseDTO;
+        res.setMessage(message);
+        res.setStatusCode(statusCode);
+
+        return res;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.doners.donersbackend.application.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// 기부글 상세 정보가 바뀌었을 때 발행 (승인 / 거절, 수령, 파일 업로드)
+@Getter
+@ToString
+public class DonationChangedEvent {
+
+    private final String donationId;
+
+    // 작성자의 다른 기부글 상세 정보도 함께 바뀌는 경우 (기존 기부 수령 여부)
+    private final String userId;
+
+    public DonationChangedEvent(String donationId) {
+        this(donationId, null);
+    }
+
+    public DonationChangedEvent(String donationId, String userId) {
+        this.donationId = donationId;
+        this.userId = userId;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.doners.donersbackend.application.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Collections;
+
+// 기부글 승인 / 거절 시 발행 (승인 처리와 같은 트랜잭션에서 알림 생성)
+@Getter
+@ToString
+public class DonationReviewedEvent {
+
+    private final Collection<String> donationIds;
+
+    private final boolean approved;
+
+    public DonationReviewedEvent(String donationId, boolean approved) {
+        this(Collections.singletonList(donationId), approved);
+    }
+
+    public DonationReviewedEvent(Collection<String> donationIds, boolean approved) {
+        this.donationIds = donationIds;
+        this.approved = approved;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.doners.donersbackend.application.event;
+
+import com.doners.donersbackend.application.dto.response.donation.NotificationGetListResponseDTO;
+import lombok.Getter;
+import lombok.ToString;
+
+// 알림이 생성되었을 때 발행 (커밋 이후 받는 회원에게 실시간 전송)
+@Getter
+@ToString
+public class NotificationCreatedEvent {
+
+    private final String userId;
+
+    private final NotificationGetListResponseDTO notification;
+
+    public NotificationCreatedEvent(String userId, NotificationGetListResponseDTO notification) {
+        this.userId = userId;
+        this.notification = notification;
+    }
+
+}
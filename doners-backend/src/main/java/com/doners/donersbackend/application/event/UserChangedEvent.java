@@ -0,0 +1,17 @@
+package com.doners.donersbackend.application.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// 다른 글의 목록 / 상세에 함께 노출되는 회원 정보가 바뀌었을 때 발행 (닉네임 변경, 탈퇴)
+@Getter
+@ToString
+public class UserChangedEvent {
+
+    private final String userId;
+
+    public UserChangedEvent(String userId) {
+        this.userId = userId;
+    }
+
+}
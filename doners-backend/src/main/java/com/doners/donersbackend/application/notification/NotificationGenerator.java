@@ -0,0 +1,168 @@
+package com.doners.donersbackend.application.notification;
+
+import com.doners.donersbackend.application.dto.response.donation.NotificationGetListResponseDTO;
+import com.doners.donersbackend.application.event.DonationReviewedEvent;
+import com.doners.donersbackend.application.event.NotificationCreatedEvent;
+import com.doners.donersbackend.domain.dao.donation.Notification;
+import com.doners.donersbackend.domain.enums.ApprovalStatusCode;
+import com.doners.donersbackend.domain.enums.NotificationCode;
+import com.doners.donersbackend.domain.repository.UserRepository;
+import com.doners.donersbackend.domain.repository.donation.DonationRepository;
+import com.doners.donersbackend.domain.repository.donation.NotificationRepository;
+import com.doners.donersbackend.domain.repository.donation.projection.DonationOwnerProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// 기부글 알림 생성
+// 승인 / 거절은 처리하는 트랜잭션 안에서, 마감은 매일 마감일이 지난 기부글을 찾아서 생성
+// 알림 조회 시에는 만들어진 알림만 읽음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationGenerator {
+
+    private static final int SWEEP_SIZE = 500;
+
+    private static final String APPROVAL_DESCRIPTION = "기부글 신청이 승인되었습니다.";
+
+    private static final String REJECTION_DESCRIPTION = "기부글 신청이 반려되었습니다.";
+
+    private static final String CLOSE_DESCRIPTION = "기부글이 마감되었습니다.";
+
+    private final NotificationRepository notificationRepository;
+
+    private final DonationRepository donationRepository;
+
+    private final UserRepository userRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final PlatformTransactionManager transactionManager;
+
+    // 승인 처리와 같은 트랜잭션에서 실행 (승인이 롤백되면 알림도 남지 않음)
+    @EventListener
+    public void onDonationReviewed(DonationReviewedEvent event) {
+
+        if (event.getDonationIds().isEmpty()) return;
+
+        // 같은 기부글에 승인 여부 알림은 한 번만
+        Set<String> notifiedIdSet = new HashSet<>(notificationRepository.findDonationIdByDonationIdIn(event.getDonationIds(), NotificationCode.APPROVAL));
+
+        List<Notification> notificationList = new ArrayList<>();
+
+        donationRepository.findOwnerByIdIn(event.getDonationIds()).forEach(owner -> {
+            if (notifiedIdSet.contains(owner.getDonationId())) return;
+
+            notificationList.add(createNotification(owner, event.isApproved() ? APPROVAL_DESCRIPTION : REJECTION_DESCRIPTION, NotificationCode.APPROVAL));
+        });
+
+        save(notificationList);
+
+    }
+
+    // 마감일이 지난 기부글 마감 알림 (처리한 기부글은 조건에서 빠지므로 항상 첫 페이지만 조회)
+    @Scheduled(cron = "${doners.notification.close-cron:0 5 0 * * *}")
+    public void sweepClosedDonation() {
+
+        int count = 0;
+        List<DonationOwnerProjection> ownerList;
+
+        while (!(ownerList = donationRepository.findClosedOwnerWithoutNotification(LocalDate.now(), NotificationCode.PROGRESS, PageRequest.of(0, SWEEP_SIZE))).isEmpty()) {
+            List<Notification> notificationList = new ArrayList<>();
+
+            ownerList.forEach(owner -> notificationList.add(createNotification(owner, CLOSE_DESCRIPTION, NotificationCode.PROGRESS)));
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> save(notificationList));
+            count += notificationList.size();
+        }
+
+        if (count > 0) log.info("closed donation notification created : {}", count);
+
+    }
+
+    // 알림을 조회 시점에 만들던 때의 데이터 보정 : 받는 회원 채우기, 빠진 승인 여부 / 마감 알림 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+
+        int updated = jdbcTemplate.update("UPDATE notification n JOIN donation d ON d.id = n.donation_id SET n.user_id = d.user_id WHERE n.user_id IS NULL");
+
+        int count = 0;
+        List<DonationOwnerProjection> ownerList;
+
+        while (!(ownerList = donationRepository.findReviewedOwnerWithoutNotification(ApprovalStatusCode.BEFORE_CONFIRMATION, NotificationCode.APPROVAL, PageRequest.of(0, SWEEP_SIZE))).isEmpty()) {
+            List<Notification> notificationList = new ArrayList<>();
+
+            ownerList.forEach(owner -> notificationList.add(createNotification(owner,
+                    owner.getApprovalStatusCode() == ApprovalStatusCode.APPROVAL ? APPROVAL_DESCRIPTION : REJECTION_DESCRIPTION, NotificationCode.APPROVAL)));
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> save(notificationList));
+            count += notificationList.size();
+        }
+
+        if (updated + count > 0) log.info("notification backfill : recipient {}, review {}", updated, count);
+
+        sweepClosedDonation();
+        reconcileUnreadCount();
+
+    }
+
+    // 읽지 않은 알림 수 보정 (실제 알림 기준으로 다시 계산, 값이 다른 회원만 갱신)
+    @Scheduled(cron = "${doners.notification.unread-reconcile-cron:0 40 4 * * *}")
+    public void reconcileUnreadCount() {
+
+        int users = jdbcTemplate.update("UPDATE user u LEFT JOIN (" +
+                "SELECT user_id, COUNT(*) AS unread_count FROM notification WHERE notification_is_read = false AND user_id IS NOT NULL GROUP BY user_id" +
+                ") n ON n.user_id = u.id " +
+                "SET u.user_unread_notification_count = IFNULL(n.unread_count, 0) " +
+                "WHERE u.user_unread_notification_count IS NULL OR u.user_unread_notification_count <> IFNULL(n.unread_count, 0)");
+
+        if (users > 0) log.info("unread notification count reconciled : {}", users);
+
+    }
+
+    // 저장 + 회원별 읽지 않은 알림 수 증가 후 받는 회원에게 실시간 전송 (전송은 커밋 이후)
+    private void save(List<Notification> notificationList) {
+
+        notificationRepository.saveAll(notificationList);
+
+        Map<String, Long> unreadCountMap = new HashMap<>();
+        notificationList.forEach(notification -> unreadCountMap.merge(notification.getUser().getId(), 1L, Long::sum));
+        unreadCountMap.forEach(userRepository::increaseUnreadNotificationCount);
+
+        notificationList.forEach(notification -> applicationEventPublisher.publishEvent(new NotificationCreatedEvent(
+                notification.getUser().getId(),
+                NotificationGetListResponseDTO.builder()
+                        .notificationId(notification.getId())
+                        .donationId(notification.getDonation().getId())
+                        .description(notification.getDescription())
+                        .createTime(notification.getCreateTime())
+                        .read(notification.isRead())
+                        .build())));
+
+    }
+
+    private Notification createNotification(DonationOwnerProjection owner, String description, NotificationCode notificationCode) {
+        return Notification.builder()
+                .description(description)
+                .isRead(false)
+                .notificationCode(notificationCode)
+                .donation(donationRepository.getById(owner.getDonationId()))
+                .user(userRepository.getById(owner.getUserId()))
+                .build();
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.doners.donersbackend.application.notification;
+
+import com.doners.donersbackend.application.dto.response.donation.NotificationGetListResponseDTO;
+import com.doners.donersbackend.application.event.NotificationCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+// 알림 실시간 전송 (Server-Sent Events)
+// 회원별로 연결된 emitter 에 알림 생성 커밋 직후 전송, 주기적으로 heartbeat 를 보내서 끊긴 연결 정리
+@Slf4j
+@Component
+public class NotificationPushService {
+
+    public static final String EVENT_NAME = "notification";
+
+    // 한 회원이 동시에 유지할 수 있는 연결 수 (탭 여러 개)
+    private static final int MAX_EMITTERS_PER_USER = 5;
+
+    private final long timeout;
+
+    // 회원 ID -> 연결
+    private final Map<String, List<Connection>> connections = new ConcurrentHashMap<>();
+
+    public NotificationPushService(@Value("${doners.notification.sse-timeout:1800000}") long timeout) {
+        this.timeout = timeout;
+    }
+
+    // 연결을 먼저 등록하고 놓친 알림 전송 (등록 이후 만들어진 알림은 놓친 알림 전송이 끝날 때까지 모아 두었다가 이어서 전송)
+    public SseEmitter subscribe(String userId, Supplier<List<NotificationGetListResponseDTO>> missedListLoader) {
+
+        SseEmitter emitter = new SseEmitter(timeout);
+        Connection connection = new Connection(emitter);
+
+        List<Connection> userConnections = connections.compute(userId, (k, list) -> {
+            List<Connection> result = list == null ? new CopyOnWriteArrayList<>() : list;
+            result.add(connection);
+
+            return result;
+        });
+
+        // 오래된 연결부터 정리
+        while (userConnections.size() > MAX_EMITTERS_PER_USER) {
+            userConnections.remove(0).emitter.complete();
+        }
+
+        emitter.onCompletion(() -> remove(userId, connection));
+        emitter.onTimeout(() -> remove(userId, connection));
+        emitter.onError(e -> remove(userId, connection));
+
+        Set<String> sentIds = new HashSet<>();
+
+        try {
+            // 연결 직후 응답을 바로 내려서 프록시 / 브라우저가 연결을 열어 두도록 함
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(3000));
+
+            for (NotificationGetListResponseDTO notification : missedListLoader.get()) {
+                emitter.send(createEvent(notification));
+                sentIds.add(notification.getNotificationId());
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, connection);
+        } catch (RuntimeException e) {
+            // 놓친 알림 조회 실패
+            remove(userId, connection);
+
+            throw e;
+        }
+
+        // 모아 둔 알림 중 놓친 알림으로 이미 보낸 알림은 제외하고 순서대로 전송
+        while (true) {
+            List<NotificationGetListResponseDTO> pending;
+
+            synchronized (connection) {
+                pending = connection.pending;
+
+                if (pending.isEmpty()) {
+                    connection.pending = null;
+                    break;
+                }
+
+                connection.pending = new ArrayList<>();
+            }
+
+            pending.forEach(notification -> {
+                if (!sentIds.contains(notification.getNotificationId())) send(userId, connection, createEvent(notification));
+            });
+        }
+
+        return emitter;
+
+    }
+
+    // 알림 생성 트랜잭션이 커밋된 뒤 전송 (롤백된 알림은 보내지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+
+        List<Connection> userConnections = connections.get(event.getUserId());
+
+        if (userConnections == null) return;
+
+        userConnections.forEach(connection -> {
+            // 놓친 알림을 보내는 중이면 모아 두고 끝난 뒤 전송
+            synchronized (connection) {
+                if (connection.pending != null) {
+                    connection.pending.add(event.getNotification());
+                    return;
+                }
+            }
+
+            send(event.getUserId(), connection, createEvent(event.getNotification()));
+        });
+
+    }
+
+    // 끊긴 연결 정리 + 프록시 유휴 연결 종료 방지
+    @Scheduled(fixedDelayString = "${doners.notification.heartbeat-interval:15000}")
+    public void heartbeat() {
+
+        connections.forEach((userId, userConnections) ->
+                userConnections.forEach(connection -> send(userId, connection, SseEmitter.event().comment("heartbeat"))));
+
+    }
+
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void close() {
+
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+
+    }
+
+    private void send(String userId, Connection connection, SseEmitter.SseEventBuilder event) {
+
+        try {
+            connection.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            remove(userId, connection);
+            connection.emitter.completeWithError(e);
+        }
+
+    }
+
+    private void remove(String userId, Connection connection) {
+
+        connections.computeIfPresent(userId, (k, userConnections) -> {
+            userConnections.remove(connection);
+
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+
+    }
+
+    private SseEmitter.SseEventBuilder createEvent(NotificationGetListResponseDTO notification) {
+        return SseEmitter.event()
+                .id(notification.getNotificationId())
+                .name(EVENT_NAME)
+                .data(notification);
+    }
+
+    private static class Connection {
+
+        private final SseEmitter emitter;
+
+        // 놓친 알림을 보내는 동안 새로 만들어진 알림 (전송이 끝나면 null)
+        private List<NotificationGetListResponseDTO> pending = new ArrayList<>();
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+    }
+
+}
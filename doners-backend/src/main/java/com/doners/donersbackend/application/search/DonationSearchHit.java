@@ -0,0 +1,31 @@
+package com.doners.donersbackend.application.search;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+// 검색 결과 한 건 : 점수 내림차순 -> 시작일 내림차순 -> ID 내림차순으로 정렬
+@Getter
+@ToString
+public class DonationSearchHit {
+
+    public static final Comparator<DonationSearchHit> ORDER = Comparator
+            .comparingDouble(DonationSearchHit::getScore).reversed()
+            .thenComparing(DonationSearchHit::getStartDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(DonationSearchHit::getDonationId, Comparator.reverseOrder());
+
+    private final String donationId;
+
+    private final double score;
+
+    private final LocalDate startDate;
+
+    public DonationSearchHit(String donationId, double score, LocalDate startDate) {
+        this.donationId = donationId;
+        this.score = score;
+        this.startDate = startDate;
+    }
+
+}
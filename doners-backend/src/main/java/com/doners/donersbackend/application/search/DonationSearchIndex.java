@@ -0,0 +1,261 @@
+package com.doners.donersbackend.application.search;
+
+import com.doners.donersbackend.domain.dao.donation.Donation;
+import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.domain.repository.donation.DonationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 기부글 제목 / 사연에 대한 메모리 역색인
+// LIKE '%keyword%' 전체 스캔 대신 검색어 n-gram 의 posting list 교집합만 확인하므로 테이블 크기와 무관하게 검색
+@Component
+@RequiredArgsConstructor
+public class DonationSearchIndex {
+
+    private static final int LOAD_SIZE = 500;
+
+    // 제목에서 일치한 경우 사연보다 높은 점수 부여
+    private static final double TITLE_WEIGHT = 3.0;
+
+    private final DonationRepository donationRepository;
+
+    // gram -> (기부글 ID -> 등장 횟수)
+    private final Map<String, Map<String, Integer>> titleIndex = new HashMap<>();
+
+    private final Map<String, Map<String, Integer>> descriptionIndex = new HashMap<>();
+
+    // 기부글 ID -> 색인된 문서 정보
+    private final Map<String, IndexedDonation> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 서버 시작 시 전체 기부글 색인 (LOB 를 한 번에 올리지 않도록 나눠서 조회)
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+
+        Page<Donation> page;
+        int number = 0;
+
+        do {
+            page = donationRepository.findAll(PageRequest.of(number++, LOAD_SIZE, Sort.by("id")));
+            page.forEach(this::index);
+        } while (page.hasNext());
+
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 색인 (롤백된 변경은 색인하지 않음)
+    public void indexAfterCommit(Donation donation) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(donation);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(donation);
+            }
+        });
+
+    }
+
+    // 일괄 변경된 기부글을 커밋 이후 다시 조회해서 색인
+    public void indexAfterCommit(Collection<String> donationIds) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            donationRepository.findAllById(donationIds).forEach(this::index);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                donationRepository.findAllById(donationIds).forEach(DonationSearchIndex.this::index);
+            }
+        });
+
+    }
+
+    // 색인 추가 / 갱신 (삭제된 기부글은 색인에서 제거)
+    public void index(Donation donation) {
+
+        if (donation.isDeleted()) {
+            remove(donation.getId());
+            return;
+        }
+
+        IndexedDonation document = new IndexedDonation(donation);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(donation.getId());
+
+            document.titleTerms.forEach((gram, count) ->
+                    titleIndex.computeIfAbsent(gram, k -> new HashMap<>()).put(document.id, count));
+            document.descriptionTerms.forEach((gram, count) ->
+                    descriptionIndex.computeIfAbsent(gram, k -> new HashMap<>()).put(document.id, count));
+
+            documents.put(document.id, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+    }
+
+    public void remove(String donationId) {
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(donationId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+    }
+
+    // 승인되고 삭제되지 않은 기부글 중 검색어의 모든 gram 을 포함하는 기부글을 점수 순으로 반환
+    public List<DonationSearchHit> search(CategoryCode categoryCode, SearchType searchType, String keyword, boolean view, LocalDate today) {
+
+        Set<String> grams = NGramTokenizer.tokenizeQuery(keyword);
+
+        if (grams.isEmpty()) return Collections.emptyList();
+
+        Map<String, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (searchType != SearchType.DESCRIPTION) {
+                match(titleIndex, grams, TITLE_WEIGHT).forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+
+            if (searchType != SearchType.TITLE) {
+                match(descriptionIndex, grams, 1.0).forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+
+            List<DonationSearchHit> hits = new ArrayList<>();
+
+            scores.forEach((id, score) -> {
+                IndexedDonation document = documents.get(id);
+
+                if (document == null || !document.approved || document.categoryCode != categoryCode) return;
+                // 모금 가능한 기부만 보기
+                if (view && (document.endDate == null || document.endDate.isBefore(today))) return;
+
+                hits.add(new DonationSearchHit(id, score, document.startDate));
+            });
+
+            hits.sort(DonationSearchHit.ORDER);
+
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+    }
+
+    // 모든 gram 의 posting 에 포함된 문서만 남기고 tf * idf 로 점수 계산
+    private Map<String, Double> match(Map<String, Map<String, Integer>> index, Set<String> grams, double weight) {
+
+        List<Map<String, Integer>> postings = new ArrayList<>();
+
+        for (String gram : grams) {
+            Map<String, Integer> posting = index.get(gram);
+
+            if (posting == null) return Collections.emptyMap();
+
+            postings.add(posting);
+        }
+
+        // 가장 짧은 posting 을 기준으로 교집합 확인
+        postings.sort(Comparator.comparingInt(Map::size));
+
+        Map<String, Double> scores = new HashMap<>();
+
+        for (String id : postings.get(0).keySet()) {
+            double score = 0;
+
+            for (Map<String, Integer> posting : postings) {
+                Integer count = posting.get(id);
+
+                if (count == null) {
+                    score = -1;
+                    break;
+                }
+
+                score += count * Math.log(1 + (double) documents.size() / posting.size());
+            }
+
+            if (score >= 0) scores.put(id, score * weight);
+        }
+
+        return scores;
+
+    }
+
+    private void removeDocument(String donationId) {
+
+        IndexedDonation document = documents.remove(donationId);
+
+        if (document == null) return;
+
+        removePostings(titleIndex, document.titleTerms.keySet(), donationId);
+        removePostings(descriptionIndex, document.descriptionTerms.keySet(), donationId);
+
+    }
+
+    private void removePostings(Map<String, Map<String, Integer>> index, Set<String> grams, String donationId) {
+
+        grams.forEach(gram -> {
+            Map<String, Integer> posting = index.get(gram);
+
+            if (posting == null) return;
+
+            posting.remove(donationId);
+
+            if (posting.isEmpty()) index.remove(gram);
+        });
+
+    }
+
+    private static class IndexedDonation {
+
+        private final String id;
+
+        private final CategoryCode categoryCode;
+
+        private final boolean approved;
+
+        private final LocalDate startDate;
+
+        private final LocalDate endDate;
+
+        private final Map<String, Integer> titleTerms;
+
+        private final Map<String, Integer> descriptionTerms;
+
+        private IndexedDonation(Donation donation) {
+            this.id = donation.getId();
+            this.categoryCode = donation.getCategoryCode();
+            this.approved = donation.isApproved();
+            this.startDate = donation.getStartDate();
+            this.endDate = donation.getEndDate();
+            this.titleTerms = NGramTokenizer.tokenize(donation.getTitle());
+            this.descriptionTerms = NGramTokenizer.tokenize(donation.getDescription());
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.doners.donersbackend.application.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 검색 결과 스냅샷 (토큰 -> 첫 페이지 조회 시점의 정렬된 기부글 ID 목록)
+// tf-idf 점수는 기부글이 추가 / 수정될 때마다 바뀌므로 다음 페이지는 다시 정렬하지 않고 스냅샷에서 이어서 조회
+// 개수 기준 LRU + TTL 로 보관하고, 만료된 토큰은 검색을 다시 실행해서 이어서 조회
+@Component
+public class DonationSearchSnapshots {
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    // 토큰 -> 스냅샷 (접근 순서로 정렬, 가장 오래 사용하지 않은 항목부터 제거)
+    private final LinkedHashMap<String, Snapshot> snapshots = new LinkedHashMap<String, Snapshot>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public DonationSearchSnapshots(@Value("${doners.search.snapshot.max-size:1000}") int maxSize,
+                                   @Value("${doners.search.snapshot.ttl:600000}") long ttl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    public String save(List<String> donationIds) {
+
+        String token = UUID.randomUUID().toString().replace("-", "");
+
+        synchronized (snapshots) {
+            snapshots.put(token, new Snapshot(Collections.unmodifiableList(donationIds), System.currentTimeMillis() + ttl));
+        }
+
+        return token;
+
+    }
+
+    // 없거나 만료되었으면 null
+    public List<String> get(String token) {
+
+        synchronized (snapshots) {
+            Snapshot snapshot = snapshots.get(token);
+
+            if (snapshot == null) return null;
+
+            if (snapshot.expireTime < System.currentTimeMillis()) {
+                snapshots.remove(token);
+
+                return null;
+            }
+
+            return snapshot.donationIds;
+        }
+
+    }
+
+    public int size() {
+
+        synchronized (snapshots) {
+            return snapshots.size();
+        }
+
+    }
+
+    private static class Snapshot {
+
+        private final List<String> donationIds;
+
+        private final long expireTime;
+
+        private Snapshot(List<String> donationIds, long expireTime) {
+            this.donationIds = donationIds;
+            this.expireTime = expireTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.doners.donersbackend.application.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 한글은 형태소 분석 없이도 부분 일치 검색이 되도록 어절을 n-gram 으로 잘라 색인
+// 1글자 어절(검색어)까지 찾을 수 있도록 unigram 과 bigram 을 함께 생성
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 문서 색인용 : gram -> 등장 횟수
+    public static Map<String, Integer> tokenize(String text) {
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+
+        for (String word : split(text)) {
+            if (word.isEmpty()) continue;
+
+            for (int i = 0; i < word.length(); i++) {
+                termFrequencies.merge(word.substring(i, i + 1), 1, Integer::sum);
+
+                if (i + GRAM_SIZE <= word.length()) {
+                    termFrequencies.merge(word.substring(i, i + GRAM_SIZE), 1, Integer::sum);
+                }
+            }
+        }
+
+        return termFrequencies;
+
+    }
+
+    // 검색어용 : 어절이 GRAM_SIZE 보다 짧으면 unigram, 아니면 bigram 만 사용
+    public static Set<String> tokenizeQuery(String keyword) {
+
+        Set<String> grams = new LinkedHashSet<>();
+
+        for (String word : split(keyword)) {
+            if (word.isEmpty()) continue;
+
+            if (word.length() < GRAM_SIZE) {
+                grams.add(word);
+                continue;
+            }
+
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                grams.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+
+        return grams;
+
+    }
+
+    private static String[] split(String text) {
+
+        if (text == null || text.isEmpty()) return new String[0];
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        return WORD_DELIMITER.split(normalized.trim());
+
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.doners.donersbackend.application.search;
+
+import com.doners.donersbackend.application.event.DonationChangedEvent;
+import com.doners.donersbackend.application.event.UserChangedEvent;
+import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.domain.repository.donation.DonationRepository;
+import com.doners.donersbackend.domain.repository.donation.projection.DonationListProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 카테고리별 모금 중인 기부글 메모리 색인 (승인 + 삭제되지 않음 + 마감일 >= 오늘)
+// "모금 가능한 기부만 보기" 목록을 DB 조회 없이 마감 임박 순 / 최신 순으로 제공
+@Component
+@RequiredArgsConstructor
+public class OpenDonationIndex {
+
+    // 마감 임박 순 : 마감일 오름차순 -> ID 오름차순
+    private static final Comparator<DonationListProjection> BY_END_DATE = Comparator
+            .comparing(DonationListProjection::getEndDate)
+            .thenComparing(DonationListProjection::getId);
+
+    // 최신 순 : 시작일 내림차순 -> ID 내림차순
+    private static final Comparator<DonationListProjection> BY_START_DATE = Comparator
+            .comparing(DonationListProjection::getStartDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(DonationListProjection::getId, Comparator.reverseOrder());
+
+    private final DonationRepository donationRepository;
+
+    private final Map<CategoryCode, CategoryIndex> categories = createCategories();
+
+    // 기부글 ID -> 색인된 항목
+    private final Map<String, DonationListProjection> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    // 서버 시작 시 모금 중인 기부글 적재 (적재 전에는 DB 에서 조회)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        donationRepository.findOpenList(LocalDate.now()).forEach(this::put);
+
+        loaded = true;
+
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 자정마다 마감된 기부글 제거
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void rollOver() {
+
+        LocalDate today = LocalDate.now();
+
+        categories.values().forEach(categoryIndex -> {
+            while (!categoryIndex.byEndDate.isEmpty() && categoryIndex.byEndDate.first().getEndDate().isBefore(today)) {
+                DonationListProjection expired = categoryIndex.byEndDate.pollFirst();
+
+                categoryIndex.byStartDate.remove(expired);
+                documents.remove(expired.getId());
+            }
+        });
+
+    }
+
+    // 승인 / 거절, 썸네일 변경 등이 커밋된 후 해당 기부글을 다시 조회해서 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDonationChanged(DonationChangedEvent event) {
+
+        DonationListProjection donation = donationRepository.findOpenListById(event.getDonationId(), LocalDate.now()).orElse(null);
+
+        if (donation == null) remove(event.getDonationId());
+        else put(donation);
+
+    }
+
+    // 닉네임 변경 시 작성자의 모금 중인 기부글 갱신
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+
+        donationRepository.findOpenListByUserId(event.getUserId(), LocalDate.now()).forEach(this::put);
+
+    }
+
+    // 목록 조회 : 커서가 있으면 (날짜, ID) 이후부터, 없으면 offset 만큼 건너뛰고 조회
+    public List<DonationListProjection> getList(CategoryCode categoryCode, boolean orderByEndDate, LocalDate today, LocalDate cursorDate, String cursorId, int offset, int size) {
+
+        CategoryIndex categoryIndex = categories.get(categoryCode);
+        NavigableSet<DonationListProjection> view;
+
+        if (orderByEndDate) {
+            // 커서가 있으면 커서 다음부터 (커서 날짜가 이미 지났어도 처음으로 돌아가지 않음, 마감된 항목은 아래에서 건너뜀)
+            // 없으면 마감일이 오늘 이후인 항목부터
+            view = cursorId != null
+                    ? categoryIndex.byEndDate.tailSet(probe(cursorId, null, cursorDate), false)
+                    : categoryIndex.byEndDate.tailSet(probe("", null, today), true);
+        } else {
+            view = categoryIndex.byStartDate;
+
+            if (cursorId != null) view = view.tailSet(probe(cursorId, cursorDate, null), false);
+        }
+
+        List<DonationListProjection> donationList = new ArrayList<>();
+        int skipped = 0;
+
+        for (DonationListProjection donation : view) {
+            // 자정 이후 아직 제거되지 않은 항목
+            if (donation.getEndDate().isBefore(today)) continue;
+
+            if (skipped++ < offset) continue;
+
+            donationList.add(donation);
+
+            if (donationList.size() == size) break;
+        }
+
+        return donationList;
+
+    }
+
+    private synchronized void put(DonationListProjection donation) {
+
+        removeDocument(donation.getId());
+
+        CategoryIndex categoryIndex = categories.get(donation.getCategoryCode());
+
+        if (categoryIndex == null || donation.getEndDate() == null) return;
+
+        categoryIndex.byEndDate.add(donation);
+        categoryIndex.byStartDate.add(donation);
+        documents.put(donation.getId(), donation);
+
+    }
+
+    public synchronized void remove(String donationId) {
+
+        removeDocument(donationId);
+
+    }
+
+    private void removeDocument(String donationId) {
+
+        DonationListProjection previous = documents.remove(donationId);
+
+        if (previous == null) return;
+
+        CategoryIndex categoryIndex = categories.get(previous.getCategoryCode());
+
+        categoryIndex.byEndDate.remove(previous);
+        categoryIndex.byStartDate.remove(previous);
+
+    }
+
+    // 정렬 기준 위치를 찾기 위한 검색용 항목
+    private static DonationListProjection probe(String id, LocalDate startDate, LocalDate endDate) {
+
+        return new DonationListProjection(id, null, null, null, null, 0, startDate, endDate, null, null);
+
+    }
+
+    private static Map<CategoryCode, CategoryIndex> createCategories() {
+
+        Map<CategoryCode, CategoryIndex> map = new EnumMap<>(CategoryCode.class);
+
+        for (CategoryCode categoryCode : CategoryCode.values()) map.put(categoryCode, new CategoryIndex());
+
+        return map;
+
+    }
+
+    private static class CategoryIndex {
+
+        private final ConcurrentSkipListSet<DonationListProjection> byEndDate = new ConcurrentSkipListSet<>(BY_END_DATE);
+
+        private final ConcurrentSkipListSet<DonationListProjection> byStartDate = new ConcurrentSkipListSet<>(BY_START_DATE);
+
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.doners.donersbackend.application.search;
+
+// 색인 검색 대상 필드
+public enum SearchType {
+
+    TITLE,
+    DESCRIPTION,
+    TITLE_OR_DESCRIPTION
+
+}
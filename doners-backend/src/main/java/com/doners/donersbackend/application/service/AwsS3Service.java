@@ -3,25 +3,29 @@ package com.doners.donersbackend.application.service;
 import com.doners.donersbackend.domain.dao.user.User;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.awt.image.BufferedImage;
-import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 public interface AwsS3Service {
 
     String uploadImage(MultipartFile multipartFile);
 
-    String uploadThumbnailImage(String fileName, MultipartFile multipartFile);
-
     String uploadFile(MultipartFile certificate);
 
+    void uploadStagedFile(String fileName, Path path, String contentType);
+
+    void uploadStagedThumbnailImage(String thumbnailFileName, Path path);
+
+    // 원본을 한 번 디코딩해서 크기별 썸네일 업로드 : 크기 -> 파일명
+    Map<Integer, String> uploadStagedThumbnailVariants(String fileName, Path path, List<Integer> sizes, float quality);
+
     String createFileName(String fileName);
 
     String getFileExtension(String fileName);
 
     String getThumbnailPath(User user);
 
-    BufferedImage createThumbnail(MultipartFile profileImage, int thumbWidth, int thumbHeight) throws IOException;
-
     String getFilePath(String newFileName);
 
 }
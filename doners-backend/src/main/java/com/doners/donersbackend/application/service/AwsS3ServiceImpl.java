@@ -9,6 +9,7 @@ import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.repository.FileRepository;
 import com.doners.donersbackend.domain.repository.ImageRepository;
 import com.doners.donersbackend.domain.repository.UserRepository;
+import com.doners.donersbackend.util.image.ImageVariantUtils;
 import com.mortennobel.imagescaling.AdvancedResizeOp;
 import com.mortennobel.imagescaling.MultiStepRescaleOp;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +25,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.UUID;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -62,52 +65,91 @@ public class AwsS3ServiceImpl implements AwsS3Service {
     }
 
     @Override
-    public String uploadThumbnailImage(String fileName, MultipartFile multipartFile) {
+    public String uploadFile(MultipartFile multipartFile) {
 
-        String thumbnailFileName = "resized_" + fileName;
+        String fileName = createFileName(multipartFile.getOriginalFilename());
 
-        try {
-            BufferedImage bufferedImage = createThumbnail(multipartFile, 300, 300);
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(multipartFile.getSize());
+        objectMetadata.setContentType(multipartFile.getContentType());
 
-            ByteArrayOutputStream os = new ByteArrayOutputStream();
-            ImageIO.write(bufferedImage, "png", os);
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            amazonS3Client.putObject(
+                    new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
+                            .withCannedAcl(CannedAccessControlList.PublicRead)
+            );
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format("파일(%s) 업로드에 실패했습니다.", multipartFile.getOriginalFilename()));
+        }
+
+        return fileName;
 
-            byte[] buffer = os.toByteArray();
-            InputStream thumbnailImageInputStream = new ByteArrayInputStream(buffer);
+    }
+
+    @Override
+    public void uploadStagedFile(String fileName, Path path, String contentType) {
 
+        try (InputStream inputStream = Files.newInputStream(path)) {
             ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(buffer.length);
-            objectMetadata.setContentType("image/png");
+            objectMetadata.setContentLength(Files.size(path));
+            objectMetadata.setContentType(contentType);
 
-            amazonS3Client.putObject(new PutObjectRequest(bucket, thumbnailFileName, thumbnailImageInputStream, objectMetadata)
+            amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
                     .withCannedAcl(CannedAccessControlList.PublicRead));
         } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "썸네일 사진 업로드에 실패했습니다.");
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format("파일(%s) 업로드에 실패했습니다.", fileName));
         }
 
-        return thumbnailFileName;
+    }
+
+    @Override
+    public void uploadStagedThumbnailImage(String thumbnailFileName, Path path) {
+
+        try {
+            BufferedImage originalImage = ImageIO.read(path.toFile());
+
+            if (originalImage == null) throw new IOException("지원하지 않는 이미지 형식입니다.");
+
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            ImageIO.write(resize(originalImage, 300, 300), "png", os);
+
+            putObject(thumbnailFileName, os.toByteArray(), "image/png");
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "썸네일 사진 업로드에 실패했습니다.");
+        }
 
     }
 
     @Override
-    public String uploadFile(MultipartFile multipartFile) {
+    public Map<Integer, String> uploadStagedThumbnailVariants(String fileName, Path path, List<Integer> sizes, float quality) {
 
-        String fileName = createFileName(multipartFile.getOriginalFilename());
+        Map<Integer, String> variants = new TreeMap<>();
 
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(multipartFile.getSize());
-        objectMetadata.setContentType(multipartFile.getContentType());
+        try {
+            BufferedImage originalImage = ImageIO.read(path.toFile());
 
-        try (InputStream inputStream = multipartFile.getInputStream()) {
-            amazonS3Client.putObject(
-                    new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                            .withCannedAcl(CannedAccessControlList.PublicRead)
-            );
+            if (originalImage == null) throw new IOException("지원하지 않는 이미지 형식입니다.");
+
+            // 큰 크기부터 만들고, 다음 크기는 직전 결과에서 줄임
+            List<Integer> descending = new ArrayList<>(new TreeSet<>(sizes));
+            Collections.reverse(descending);
+
+            BufferedImage current = ImageVariantUtils.flatten(originalImage);
+
+            for (int size : descending) {
+                current = ImageVariantUtils.resize(current, size);
+
+                String variantFileName = ImageVariantUtils.variantFileName(fileName, size);
+
+                putObject(variantFileName, ImageVariantUtils.encodeJpeg(current, quality), ImageVariantUtils.CONTENT_TYPE);
+
+                variants.put(size, variantFileName);
+            }
         } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format("파일(%s) 업로드에 실패했습니다.", multipartFile.getOriginalFilename()));
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "썸네일 사진 업로드에 실패했습니다.");
         }
 
-        return fileName;
+        return variants;
 
     }
 
@@ -139,28 +181,28 @@ public class AwsS3ServiceImpl implements AwsS3Service {
     }
 
     @Override
-    public BufferedImage createThumbnail(MultipartFile profileImage, int thumbWidth, int thumbHeight) {
+    public String getFilePath(String newFileName) {
+        return amazonS3Client.getResourceUrl(bucket, newFileName);
+    }
 
-        try {
-            InputStream in = profileImage.getInputStream();
-            BufferedImage originalImage = ImageIO.read(in);
+    private BufferedImage resize(BufferedImage originalImage, int thumbWidth, int thumbHeight) {
 
-            MultiStepRescaleOp rescale = new MultiStepRescaleOp(thumbWidth, thumbHeight);
-            rescale.setUnsharpenMask(AdvancedResizeOp.UnsharpenMask.Soft);
+        MultiStepRescaleOp rescale = new MultiStepRescaleOp(thumbWidth, thumbHeight);
+        rescale.setUnsharpenMask(AdvancedResizeOp.UnsharpenMask.Soft);
 
-            BufferedImage thumbImage = rescale.filter(originalImage, null);
-            in.close();
-
-            return thumbImage;
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 리사이즈에 실패했습니다.");
-        }
+        return rescale.filter(originalImage, null);
 
     }
 
-    @Override
-    public String getFilePath(String newFileName) {
-        return amazonS3Client.getResourceUrl(bucket, newFileName);
+    private void putObject(String fileName, byte[] buffer, String contentType) {
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(buffer.length);
+        objectMetadata.setContentType(contentType);
+
+        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(buffer), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+
     }
 
 }
@@ -3,17 +3,27 @@ package com.doners.donersbackend.application.service;
 import com.doners.donersbackend.application.dto.request.comment.CommentChangePatchDTO;
 import com.doners.donersbackend.application.dto.request.comment.CommentRegisterPostDTO;
 import com.doners.donersbackend.application.dto.response.comment.CommentGetListWrapperResponseDTO;
+import com.doners.donersbackend.application.dto.response.comment.CommentGetTreeWrapperResponseDTO;
+import com.doners.donersbackend.domain.dao.user.User;
 
 public interface CommentService {
-    void registerComment(String accessToken, CommentRegisterPostDTO commentRegisterPostDTO);
+    void registerComment(User user, CommentRegisterPostDTO commentRegisterPostDTO);
     // 댓글 변경
-    Integer changeComment(String accessToken, CommentChangePatchDTO commentChangePatchDTO);
+    Integer changeComment(User user, CommentChangePatchDTO commentChangePatchDTO);
     // 댓글 삭제
-    Integer deleteComment(String accessToken, String commentId);
+    Integer deleteComment(User user, String commentId);
     // 감사글 댓글 목록
-    CommentGetListWrapperResponseDTO getEpilogueCommentList(String accessToken, String id);
+    CommentGetListWrapperResponseDTO getEpilogueCommentList(User user, String id, String since);
     // 커뮤니티 댓글 목록
-    CommentGetListWrapperResponseDTO getCommunityCommentList(String accessToken, String id);
+    CommentGetListWrapperResponseDTO getCommunityCommentList(User user, String id, String since);
+    // 커뮤니티 댓글 목록 버전 (ETag)
+    long getCommunityCommentVersion(String id);
+    // 감사글 댓글 목록 버전 (ETag)
+    long getEpilogueCommentVersion(String id);
     // 감사글 대 댓글 목록
-    CommentGetListWrapperResponseDTO getSubCommentList(String accessToken, String parentId);
+    CommentGetListWrapperResponseDTO getSubCommentList(User user, String parentId);
+    // 커뮤니티 댓글 트리 (최상위 댓글 기준 페이지)
+    CommentGetTreeWrapperResponseDTO getCommunityCommentTree(User user, String id, int page, int size);
+    // 감사글 댓글 트리 (최상위 댓글 기준 페이지)
+    CommentGetTreeWrapperResponseDTO getEpilogueCommentTree(User user, String id, int page, int size);
 }
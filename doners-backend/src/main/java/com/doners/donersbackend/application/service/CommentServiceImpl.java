@@ -3,7 +3,9 @@ package com.doners.donersbackend.application.service;
 import com.doners.donersbackend.application.dto.request.comment.CommentChangePatchDTO;
 import com.doners.donersbackend.application.dto.request.comment.CommentRegisterPostDTO;
 import com.doners.donersbackend.application.dto.response.comment.CommentGetListWrapperResponseDTO;
+import com.doners.donersbackend.application.dto.response.comment.CommentGetTreeWrapperResponseDTO;
 import com.doners.donersbackend.application.dto.response.comment.CommentResponseDTO;
+import com.doners.donersbackend.application.dto.response.comment.CommentTreeResponseDTO;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
 import com.doners.donersbackend.domain.dao.comment.Comment;
 import com.doners.donersbackend.domain.dao.community.Community;
@@ -11,14 +13,16 @@ import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.repository.epilogue.EpilogueRepository;
 import com.doners.donersbackend.domain.repository.CommentRepository;
 import com.doners.donersbackend.domain.repository.CommunityRepository;
-import com.doners.donersbackend.domain.repository.UserRepository;
-import com.doners.donersbackend.security.util.JwtAuthenticationProvider;
+import com.doners.donersbackend.domain.repository.projection.CommentProjection;
+import com.doners.donersbackend.util.pagination.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -30,24 +34,27 @@ public class CommentServiceImpl implements CommentService{
 
     private final EpilogueRepository epilogueRepository;
 
-    private final UserRepository userRepository;
-
-    private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    // 변경분 조회 시 커서보다 이만큼 앞에서부터 다시 조회 (ms)
+    // 수정 시간은 커밋 전에 정해지므로 늦게 커밋된 트랜잭션의 댓글이 커서보다 앞에 들어올 수 있음
+    @Value("${doners.comment.since-margin:5000}")
+    private long sinceMargin;
 
     @Override
-    public void registerComment(String accessToken, CommentRegisterPostDTO commentRegisterPostDTO) {
-        User user = getUserFromAccessToken(accessToken);
-
+    @Transactional
+    public void registerComment(User user, CommentRegisterPostDTO commentRegisterPostDTO) {
         Comment parentComment = null;
         if(commentRepository.findByIdAndCommentIsDeleted(commentRegisterPostDTO.getCommentId(), false).isPresent()){
             parentComment = commentRepository.findById(commentRegisterPostDTO.getCommentId()).get();
         }
+        LocalDateTime now = LocalDateTime.now();
+
         // 댓글 작성 정보
         Comment comment = Comment.builder()
                 .commentDescription(commentRegisterPostDTO.getCommentDescription())
                 .user(user)
                 .parentCommentId(parentComment)
-                .commentCreateTime(LocalDateTime.now()).build();
+                .commentCreateTime(now)
+                .commentUpdateTime(now).build();
 
         if(commentRegisterPostDTO.getCommunityId()==null){// 감사 글 댓글
             comment.changeEpilogueId(epilogueRepository.findById(commentRegisterPostDTO.getEpilogueId()).get());
@@ -55,12 +62,18 @@ public class CommentServiceImpl implements CommentService{
             comment.changeCommunityId(communityRepository.findById(commentRegisterPostDTO.getCommunityId()).get());
         }
         commentRepository.save(comment);
+
+        // 댓글 수 증가 (같은 트랜잭션에서 원자적으로 반영)
+        if(comment.getEpilogue() != null){
+            epilogueRepository.increaseCommentCount(comment.getEpilogue().getId(), comment.getCommentCreateTime());
+        }else{
+            communityRepository.increaseCommentCount(comment.getCommunity().getId(), comment.getCommentCreateTime());
+        }
     }
 
     @Override
-    public Integer changeComment(String accessToken, CommentChangePatchDTO commentChangePatchDTO) {
-        User user = getUserFromAccessToken(accessToken);
-
+    @Transactional
+    public Integer changeComment(User user, CommentChangePatchDTO commentChangePatchDTO) {
         Comment comment = commentRepository.findByIdAndCommentIsDeleted(commentChangePatchDTO.getCommentId(), false)
                 .orElseThrow(() -> new IllegalArgumentException("해당 댓글을 찾을 수 없습니다."));
 
@@ -75,13 +88,20 @@ public class CommentServiceImpl implements CommentService{
         }
 
         commentRepository.save(comment);
+
+        // 댓글 목록 버전 증가
+        if(comment.getEpilogue() != null) {
+            epilogueRepository.increaseCommentVersion(comment.getEpilogue().getId());
+        } else if(comment.getCommunity() != null) {
+            communityRepository.increaseCommentVersion(comment.getCommunity().getId());
+        }
+
         return 200;
     }
 
     @Override
-    public Integer deleteComment(String accessToken, String commentId) {
-        User user = getUserFromAccessToken(accessToken);
-
+    @Transactional
+    public Integer deleteComment(User user, String commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 댓글을 찾을 수 없습니다."));
 
@@ -89,50 +109,154 @@ public class CommentServiceImpl implements CommentService{
             return 401;
         }
 
+        // 이미 삭제된 댓글은 댓글 수를 다시 줄이지 않음
+        if(comment.isCommentIsDeleted()) {
+            return 200;
+        }
+
         try {
             comment.deleteComment();
         } catch(Exception e) {
             return 409;
         }
 
-        commentRepository.save(comment);
+        // 마지막 댓글 시간을 다시 계산하기 전에 삭제 여부 반영
+        commentRepository.saveAndFlush(comment);
+
+        if(comment.getEpilogue() != null) {
+            epilogueRepository.decreaseCommentCount(comment.getEpilogue().getId());
+        } else if(comment.getCommunity() != null) {
+            communityRepository.decreaseCommentCount(comment.getCommunity().getId());
+        }
+
         return 200;
     }
 
     @Override
-    public CommentGetListWrapperResponseDTO getEpilogueCommentList(String accessToken, String id) {
-        User user = getUserFromAccessToken(accessToken);
+    @Transactional(readOnly = true)
+    public CommentGetListWrapperResponseDTO getEpilogueCommentList(User user, String id, String since) {
+        // 커서 이후 변경분만 조회
+        if(since != null) {
+            SinceCursor cursor = SinceCursor.decode(since);
 
-        List<CommentResponseDTO> list = new ArrayList<>();
+            return createCommentChanges(commentRepository.findEpilogueChangesSince(id, cursor.updateTime.minus(sinceMargin, ChronoUnit.MILLIS)), cursor);
+        }
 
-        Epilogue epilogue = epilogueRepository.findById(id).get();
+        Epilogue epilogue = epilogueRepository.getById(id);
 
-        for(Comment c : commentRepository.findAllByEpilogueAndCommentIsDeletedOrderByCommentCreateTime(epilogue, false).get()) {
-            list.add(new CommentResponseDTO(c.getId(), c.getCommentCreateTime(), c.getCommentDescription(), c.getUser().getUserNickname()));
+        return createCommentList(commentRepository.findAllByEpilogueAndCommentIsDeletedOrderByCommentCreateTime(epilogue, false).get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentGetListWrapperResponseDTO getCommunityCommentList(User user, String id, String since) {
+        // 커서 이후 변경분만 조회
+        if(since != null) {
+            SinceCursor cursor = SinceCursor.decode(since);
+
+            return createCommentChanges(commentRepository.findCommunityChangesSince(id, cursor.updateTime.minus(sinceMargin, ChronoUnit.MILLIS)), cursor);
         }
 
-        return new CommentGetListWrapperResponseDTO(list);
+        Community community = communityRepository.getById(id);
+
+        return createCommentList(commentRepository.findAllByCommunityAndCommentIsDeletedOrderByCommentCreateTime(community, false).get());
+    }
+
+    @Override
+    public long getCommunityCommentVersion(String id) {
+        return communityRepository.findCommentVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 커뮤니티 글을 찾을 수 없습니다."));
     }
 
     @Override
-    public CommentGetListWrapperResponseDTO getCommunityCommentList(String accessToken, String id) {
-        User user = getUserFromAccessToken(accessToken);
+    public long getEpilogueCommentVersion(String id) {
+        return epilogueRepository.findCommentVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 감사 글을 찾을 수 없습니다."));
+    }
 
+    // 전체 댓글 목록 + 이후 변경분 조회 커서
+    private CommentGetListWrapperResponseDTO createCommentList(List<Comment> commentList) {
         List<CommentResponseDTO> list = new ArrayList<>();
 
-        Community community = communityRepository.findById(id).get();
+        for(Comment c : commentList) {
+            list.add(createCommentResponseDTO(c));
+        }
 
-        for(Comment c : commentRepository.findAllByCommunityAndCommentIsDeletedOrderByCommentCreateTime(community, false).get()) {
-            list.add(new CommentResponseDTO(c.getId(), c.getCommentCreateTime(), c.getCommentDescription(), c.getUser().getUserNickname()));
+        return CommentGetListWrapperResponseDTO.builder()
+                .commentResponseDTOList(list)
+                .deletedCommentIdList(new ArrayList<>())
+                .since(createSince(commentList, null)).build();
+    }
+
+    // 커서 이후 작성 / 수정된 댓글과 삭제된 댓글 ID
+    // 커서보다 앞에서부터 다시 조회하므로 이미 보낸 댓글(커서에 담긴 ID)은 제외하고 늦게 커밋된 댓글만 포함
+    private CommentGetListWrapperResponseDTO createCommentChanges(List<Comment> commentList, SinceCursor cursor) {
+        List<CommentResponseDTO> list = new ArrayList<>();
+        List<String> deletedList = new ArrayList<>();
+
+        for(Comment c : commentList) {
+            if(cursor.sentIds.contains(c.getId()) && compareUpdate(c, cursor.updateTime, cursor.commentId) <= 0) continue;
+
+            if(c.isCommentIsDeleted()) deletedList.add(c.getId());
+            else list.add(createCommentResponseDTO(c));
         }
 
-        return new CommentGetListWrapperResponseDTO(list);
+        return CommentGetListWrapperResponseDTO.builder()
+                .commentResponseDTOList(list)
+                .deletedCommentIdList(deletedList)
+                .since(createSince(commentList, cursor)).build();
     }
 
-    @Override
-    public CommentGetListWrapperResponseDTO getSubCommentList(String accessToken, String parentId) {
-        User user = getUserFromAccessToken(accessToken);
+    private CommentResponseDTO createCommentResponseDTO(Comment c) {
+        return CommentResponseDTO.builder()
+                .commentId(c.getId())
+                .commentCreateTime(c.getCommentCreateTime())
+                .commentDescription(c.getCommentDescription())
+                .nickname(c.getUser().getUserNickname())
+                .parentCommentId(c.getParentCommentId() == null ? null : c.getParentCommentId().getId())
+                .commentUpdateTime(getUpdateTime(c)).build();
+    }
+
+    // 가장 마지막 변경 + 그보다 sinceMargin 이내에 변경된 댓글 ID (다음 조회에서 다시 읽혀도 중복으로 보내지 않도록)
+    private String createSince(List<Comment> commentList, SinceCursor previous) {
+        Comment last = null;
+
+        for(Comment c : commentList) {
+            if(last == null || compareUpdate(c, getUpdateTime(last), last.getId()) > 0) last = c;
+        }
+
+        LocalDateTime updateTime = previous == null ? null : previous.updateTime;
+        String commentId = previous == null ? null : previous.commentId;
+
+        if(last != null && (updateTime == null || compareUpdate(last, updateTime, commentId) > 0)) {
+            updateTime = getUpdateTime(last);
+            commentId = last.getId();
+        }
+
+        if(updateTime == null) return null;
 
+        LocalDateTime from = updateTime.minus(sinceMargin, ChronoUnit.MILLIS);
+        Set<String> sentIds = new LinkedHashSet<>();
+
+        for(Comment c : commentList) {
+            if(!getUpdateTime(c).isBefore(from)) sentIds.add(c.getId());
+        }
+
+        return new SinceCursor(updateTime, commentId, sentIds).encode();
+    }
+
+    private int compareUpdate(Comment c, LocalDateTime updateTime, String commentId) {
+        int result = getUpdateTime(c).compareTo(updateTime);
+
+        return result != 0 ? result : c.getId().compareTo(commentId);
+    }
+
+    private LocalDateTime getUpdateTime(Comment c) {
+        return c.getCommentUpdateTime() == null ? c.getCommentCreateTime() : c.getCommentUpdateTime();
+    }
+
+    @Override
+    public CommentGetListWrapperResponseDTO getSubCommentList(User user, String parentId) {
         List<CommentResponseDTO> list = new ArrayList<>();
 
         Comment comment = commentRepository.findById(parentId).get();
@@ -143,11 +267,94 @@ public class CommentServiceImpl implements CommentService{
         return new CommentGetListWrapperResponseDTO(list);
     }
 
-    public User getUserFromAccessToken(String accessToken) {
-        String token = accessToken.split(" ")[1];
-        String userAccount = jwtAuthenticationProvider.getUserAccount(token);
+    @Override
+    @Transactional(readOnly = true)
+    public CommentGetTreeWrapperResponseDTO getCommunityCommentTree(User user, String id, int page, int size) {
+        if(!communityRepository.existsByIdAndCommunityIsDeleted(id, false)) {
+            throw new IllegalArgumentException("해당 커뮤니티 글을 찾을 수 없습니다.");
+        }
+
+        return createCommentTree(commentRepository.findTreeByCommunityId(id), page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentGetTreeWrapperResponseDTO getEpilogueCommentTree(User user, String id, int page, int size) {
+        if(!epilogueRepository.existsByIdAndEpilogueIsDeleted(id, false)) {
+            throw new IllegalArgumentException("해당 감사 글을 찾을 수 없습니다.");
+        }
+
+        return createCommentTree(commentRepository.findTreeByEpilogueId(id), page, size);
+    }
+
+    // 작성 순으로 정렬된 댓글 목록으로 트리 구성 후 최상위 댓글 기준으로 페이지 나눔
+    // 부모 댓글이 삭제된 대댓글은 기존 대댓글 조회와 마찬가지로 보이지 않음
+    private CommentGetTreeWrapperResponseDTO createCommentTree(List<CommentProjection> commentList, int page, int size) {
+        Map<String, CommentTreeResponseDTO> nodes = new HashMap<>();
+
+        for(CommentProjection c : commentList) {
+            nodes.put(c.getId(), CommentTreeResponseDTO.builder()
+                    .commentId(c.getId())
+                    .commentCreateTime(c.getCommentCreateTime())
+                    .commentDescription(c.getCommentDescription())
+                    .nickname(c.getNickname()).build());
+        }
+
+        List<CommentTreeResponseDTO> roots = new ArrayList<>();
+
+        for(CommentProjection c : commentList) {
+            CommentTreeResponseDTO node = nodes.get(c.getId());
+
+            if(c.getParentId() == null) {
+                roots.add(node);
+                continue;
+            }
+
+            CommentTreeResponseDTO parent = nodes.get(c.getParentId());
+
+            if(parent != null) parent.getChildren().add(node);
+        }
+
+        int from = Math.min((page - 1) * size, roots.size());
+        int to = Math.min(from + size, roots.size());
+
+        return CommentGetTreeWrapperResponseDTO.builder()
+                .commentTreeResponseDTOList(new ArrayList<>(roots.subList(from, to)))
+                .totalRootComments(roots.size())
+                .hasNext(to < roots.size()).build();
+    }
+
+    // since 커서 = (마지막 변경 시간, 댓글 ID, 이미 보낸 댓글 중 마지막 변경 시간 - sinceMargin 이후에 변경된 댓글 ID)
+    private static class SinceCursor {
+
+        private static final String ID_DELIMITER = ",";
+
+        private final LocalDateTime updateTime;
+
+        private final String commentId;
+
+        private final Set<String> sentIds;
+
+        private SinceCursor(LocalDateTime updateTime, String commentId, Set<String> sentIds) {
+            this.updateTime = updateTime;
+            this.commentId = commentId;
+            this.sentIds = sentIds;
+        }
+
+        private static SinceCursor decode(String since) {
+            String[] values = CursorUtils.decode(since, 3);
+
+            Set<String> sentIds = new HashSet<>();
+
+            if(!values[2].isEmpty()) sentIds.addAll(Arrays.asList(values[2].split(ID_DELIMITER)));
+
+            return new SinceCursor(CursorUtils.parseDateTime(values[0]), values[1], sentIds);
+        }
+
+        private String encode() {
+            return CursorUtils.encode(updateTime.toString(), commentId, String.join(ID_DELIMITER, sentIds));
+        }
 
-        return userRepository.findByUserAccount(userAccount)
-                .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
     }
+
 }
@@ -7,13 +7,13 @@ import com.doners.donersbackend.application.dto.response.community.CommunityResp
 import com.doners.donersbackend.domain.dao.user.User;
 
 public interface CommunityService {
-    void registerCommunity(String accessToken, CommunityRegisterPostDTO communityRegisterPostDTO);
+    void registerCommunity(User user, CommunityRegisterPostDTO communityRegisterPostDTO);
 
-    Integer changeCommunity(String accessToken, CommunityChangePatchDTO communityChangePatchDTO);
+    Integer changeCommunity(User user, CommunityChangePatchDTO communityChangePatchDTO);
 
-    Integer deleteCommunity(String accessToken, String communityId);
+    Integer deleteCommunity(User user, String communityId);
 
-    CommunityGetListWrapperResponseDTO getCommunityList(String accessToken, int sequence);
+    CommunityGetListWrapperResponseDTO getCommunityList(User user, int sequence);
 
-    CommunityResponseDTO getCommunity(String accessToken, String communityId);
+    CommunityResponseDTO getCommunity(User user, String communityId);
 }
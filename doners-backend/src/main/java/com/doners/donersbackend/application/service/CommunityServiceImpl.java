@@ -1,22 +1,22 @@
 package com.doners.donersbackend.application.service;
 
+import com.doners.donersbackend.application.counter.CounterType;
+import com.doners.donersbackend.application.counter.EngagementCounterService;
 import com.doners.donersbackend.application.dto.request.community.CommunityChangePatchDTO;
 import com.doners.donersbackend.application.dto.request.community.CommunityRegisterPostDTO;
 import com.doners.donersbackend.application.dto.response.community.CommunityGetListResponseDTO;
 import com.doners.donersbackend.application.dto.response.community.CommunityGetListWrapperResponseDTO;
 import com.doners.donersbackend.application.dto.response.community.CommunityResponseDTO;
-import com.doners.donersbackend.domain.dao.comment.Comment;
 import com.doners.donersbackend.domain.dao.community.Community;
 import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.enums.CommunityCode;
-import com.doners.donersbackend.domain.repository.CommentRepository;
 import com.doners.donersbackend.domain.repository.CommunityRepository;
-import com.doners.donersbackend.domain.repository.UserRepository;
-import com.doners.donersbackend.security.util.JwtAuthenticationProvider;
+import com.doners.donersbackend.domain.repository.projection.CommunityListProjection;
+import com.doners.donersbackend.util.text.ExcerptUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -31,24 +31,16 @@ public class CommunityServiceImpl implements CommunityService{
 
     private final CommunityRepository communityRepository;
 
-    private final UserRepository userRepository;
-
-    private final CommentRepository commentRepository;
-
-    private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final EngagementCounterService engagementCounterService;
 
     // 글 등록 : 필수 글 정보 입력 - 제목, 내용, 작성자
     @Override
-    public void registerCommunity(String accessToken, CommunityRegisterPostDTO communityRegisterPostDTO) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public void registerCommunity(User user, CommunityRegisterPostDTO communityRegisterPostDTO) {
         saveCommunity(communityRegisterPostDTO, user);
     }
 
     @Override
-    public Integer changeCommunity(String accessToken, CommunityChangePatchDTO communityChangePatchDTO) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public Integer changeCommunity(User user, CommunityChangePatchDTO communityChangePatchDTO) {
         Community community = communityRepository.findById(communityChangePatchDTO.getCommunityId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 글을 찾을 수 없습니다."));
 
@@ -63,9 +55,7 @@ public class CommunityServiceImpl implements CommunityService{
     }
 
     @Override
-    public Integer deleteCommunity(String accessToken, String communityId) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public Integer deleteCommunity(User user, String communityId) {
         Community community = communityRepository.findById(communityId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 글을 찾을 수 없습니다."));
 
@@ -80,10 +70,8 @@ public class CommunityServiceImpl implements CommunityService{
     }
 
     @Override
-    public CommunityGetListWrapperResponseDTO getCommunityList(String accessToken, int sequence) {
-        User user = getUserFromAccessToken(accessToken);
-
-        List<Community> communityList = communityRepository.findByCommunityIsDeletedOrderByCommunityCodeAscCommunityCreateTimeDesc(false, PageRequest.of(sequence-1, 10, Sort.Direction.ASC, "communityCode")).orElse(null);
+    public CommunityGetListWrapperResponseDTO getCommunityList(User user, int sequence) {
+        List<CommunityListProjection> communityList = communityRepository.findCommunityList(PageRequest.of(sequence-1, 10));
 
         List<CommunityGetListResponseDTO> communityGetListResponseDTOList = new ArrayList<>();
 
@@ -94,10 +82,9 @@ public class CommunityServiceImpl implements CommunityService{
                 .build();
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public CommunityResponseDTO getCommunity(String accessToken, String communityId) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public CommunityResponseDTO getCommunity(User user, String communityId) {
         Community community = communityRepository.findByIdAndCommunityIsDeleted(communityId, false)
                 .orElseThrow(() -> new IllegalArgumentException("해당 커뮤니티 글을 찾을 수 없습니다."));
 
@@ -112,6 +99,7 @@ public class CommunityServiceImpl implements CommunityService{
         Community community = Community.builder()
                 .communityTitle(communityRegisterPostDTO.getCommunityTitle())
                 .communityDescription(communityRegisterPostDTO.getCommunityDescription())
+                .communityExcerpt(ExcerptUtils.createExcerpt(communityRegisterPostDTO.getCommunityDescription()))
                 .user(user)
                 .communityViews(0L)
                 .communityCreateTime(LocalDateTime.now())
@@ -120,21 +108,18 @@ public class CommunityServiceImpl implements CommunityService{
         communityRepository.save(community);
     }
 
-    public List<CommunityGetListResponseDTO> createCommunityGetListResponseDTOList(List<Community> communityList, List<CommunityGetListResponseDTO> communityGetListResponseDTOList) {
+    public List<CommunityGetListResponseDTO> createCommunityGetListResponseDTOList(List<CommunityListProjection> communityList, List<CommunityGetListResponseDTO> communityGetListResponseDTOList) {
         communityList.forEach(community -> {
-            List<Comment> commentList = commentRepository.findAllByCommunityAndCommentIsDeleted(community, false).orElse(null);
-            long comments = commentList == null ? 0L : commentList.size();
-
             communityGetListResponseDTOList.add(
                     CommunityGetListResponseDTO.builder()
                             .communityId(community.getId())
                             .communityTitle(community.getCommunityTitle())
-                            .communityDescription(community.getCommunityDescription())
+                            .communityDescription(community.getCommunityExcerpt())
                             .communityCreateTime(community.getCommunityCreateTime())
-                            .communityViews(community.getCommunityViews())
-                            .communityWriter(community.getUser().getUserNickname())
+                            .communityViews(getViews(community.getId(), community.getCommunityViews()))
+                            .communityWriter(community.getCommunityWriter())
                             .communityCode(community.getCommunityCode())
-                            .comments(comments)
+                            .comments(community.getCommunityCommentCount() == null ? 0L : community.getCommunityCommentCount())
                             .build()
             );
         });
@@ -147,23 +132,24 @@ public class CommunityServiceImpl implements CommunityService{
                 .communityTitle(community.getCommunityTitle())
                 .communityDescription(community.getCommunityDescription())
                 .communityCreateTime(community.getCommunityCreateTime())
-                .communityViews(community.getCommunityViews())
+                .communityViews(getViews(community))
                 .communityWriter(community.getUser().getUserNickname())
                 .build();
     }
 
     public void increaseViews(Community community) {
-        // 조회수 업데이트
-        community.updateViews();
+        // 조회수 업데이트 (주기적으로 일괄 반영)
+        engagementCounterService.increase(CounterType.COMMUNITY_VIEWS, community.getId());
+    }
 
-        communityRepository.save(community);
+    public long getViews(Community community) {
+        return getViews(community.getId(), community.getCommunityViews());
     }
 
-    public User getUserFromAccessToken(String accessToken) {
-        String token = accessToken.split(" ")[1];
-        String userAccount = jwtAuthenticationProvider.getUserAccount(token);
+    public long getViews(String communityId, Long communityViews) {
+        long views = communityViews == null ? 0L : communityViews;
 
-        return userRepository.findByUserAccount(userAccount)
-                .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
+        return views + engagementCounterService.getPending(CounterType.COMMUNITY_VIEWS, communityId);
     }
+
 }
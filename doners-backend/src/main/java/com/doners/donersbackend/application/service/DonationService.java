@@ -1,49 +1,58 @@
 package com.doners.donersbackend.application.service;
 
 import com.doners.donersbackend.application.dto.request.donation.DonationApproveRequestDTO;
+import com.doners.donersbackend.application.dto.request.donation.DonationBulkApproveRequestDTO;
 import com.doners.donersbackend.application.dto.request.donation.DonationPatchDTO;
 import com.doners.donersbackend.application.dto.request.donation.DonationRegisterPostDTO;
+import com.doners.donersbackend.application.dto.response.donation.DonationBulkApproveResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationCheckResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationGetListWrapperResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationRecommendResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.DonationResponseDTO;
 import com.doners.donersbackend.domain.dao.donation.Donation;
+import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.enums.CategoryCode;
+import org.apache.commons.fileupload.FileUploadException;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.List;
 
 public interface DonationService {
 
     // 기부글 신청
-    Boolean createDonation(String accessToken, DonationRegisterPostDTO donationRegisterPostDTO, MultipartFile certificate, MultipartFile image, List<MultipartFile> evidence);
+    Boolean createDonation(User user, DonationRegisterPostDTO donationRegisterPostDTO, MultipartFile certificate, MultipartFile image, List<MultipartFile> evidence);
 
     // 기부글 목록 조회
-    DonationGetListWrapperResponseDTO getDonationList(CategoryCode categoryCode, int page, int sort, boolean view);
+    DonationGetListWrapperResponseDTO getDonationList(CategoryCode categoryCode, int page, int sort, boolean view, String cursor);
 
     // 승인 대기 중인 기부글 목록 조회
-    DonationGetListWrapperResponseDTO getPendingDonationList(String accessToken) throws Exception;
+    DonationGetListWrapperResponseDTO getPendingDonationList(User user, CategoryCode categoryCode, Boolean deputy, int page, String cursor) throws Exception;
 
     // 기부글 상세 조회
     DonationResponseDTO getDonation(String donationId);
 
     // 기부글 추천
-    DonationRecommendResponseDTO recommendDonation(String accessToken, DonationPatchDTO donationPatchDTO);
+    DonationRecommendResponseDTO recommendDonation(User user, DonationPatchDTO donationPatchDTO);
 
     // 기부글 검색
-    DonationGetListWrapperResponseDTO searchDonation(CategoryCode category, String type, String keyword, int page, boolean view);
+    DonationGetListWrapperResponseDTO searchDonation(CategoryCode category, String type, String keyword, int page, boolean view, String cursor);
 
     // 기부글 승인
-    Integer approveDonation(String accessToken, DonationApproveRequestDTO donationApproveRequestDTO) throws NullPointerException;
+    Integer approveDonation(User user, DonationApproveRequestDTO donationApproveRequestDTO) throws NullPointerException;
+
+    // 기부글 일괄 승인 / 거절
+    DonationBulkApproveResponseDTO approveDonationList(User user, DonationBulkApproveRequestDTO donationBulkApproveRequestDTO);
 
     // 기부글 신청 여부
-    DonationCheckResponseDTO checkDonation(String accessToken);
+    DonationCheckResponseDTO checkDonation(User user);
 
     // 기부글 신청 여부 (승인된 게 있는지)
-    DonationCheckResponseDTO checkApprovedDonation(String accessToken);
+    DonationCheckResponseDTO checkApprovedDonation(User user);
 
     // 기부금 수령 완료 처리
-    Integer receiveDonation(String accessToken, DonationPatchDTO donationPatchDTO);
+    Integer receiveDonation(User user, DonationPatchDTO donationPatchDTO);
 
     // 대표 사진 및 증빙 자료 업로드
     void uploadDonationFile(Donation donation, MultipartFile image, List<MultipartFile> evidence);
@@ -51,4 +60,7 @@ public interface DonationService {
     // 관계 증명서 업로드
     void uploadCertificateFile(Donation donation, MultipartFile certificate);
 
+    // 증빙 자료 스트리밍 업로드 : 요청 본문을 그대로 S3 에 전송 (심사 전인 본인 기부글만)
+    Integer uploadEvidenceStream(User user, String donationId, HttpServletRequest request) throws IOException, FileUploadException;
+
 }
@@ -1,9 +1,24 @@
 package com.doners.donersbackend.application.service;
 
 import com.doners.donersbackend.application.dto.request.donation.DonationApproveRequestDTO;
+import com.doners.donersbackend.application.dto.request.donation.DonationBulkApproveRequestDTO;
 import com.doners.donersbackend.application.dto.request.donation.DonationPatchDTO;
 import com.doners.donersbackend.application.dto.request.donation.DonationRegisterPostDTO;
+import com.doners.donersbackend.application.cache.CachedDonationDetail;
+import com.doners.donersbackend.application.cache.DonationDetailCache;
+import com.doners.donersbackend.application.cache.UserCache;
+import com.doners.donersbackend.application.counter.CounterType;
+import com.doners.donersbackend.application.counter.EngagementCounterService;
 import com.doners.donersbackend.application.dto.response.donation.*;
+import com.doners.donersbackend.application.event.DonationChangedEvent;
+import com.doners.donersbackend.application.event.DonationReviewedEvent;
+import com.doners.donersbackend.application.search.DonationSearchHit;
+import com.doners.donersbackend.application.search.DonationSearchIndex;
+import com.doners.donersbackend.application.search.DonationSearchSnapshots;
+import com.doners.donersbackend.application.search.OpenDonationIndex;
+import com.doners.donersbackend.application.search.SearchType;
+import com.doners.donersbackend.application.upload.StreamingUploader;
+import com.doners.donersbackend.application.upload.UploadPipeline;
 import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.donation.DonationBudget;
 import com.doners.donersbackend.domain.dao.donation.File;
@@ -11,28 +26,46 @@ import com.doners.donersbackend.domain.dao.image.Image;
 import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.enums.ApprovalStatusCode;
 import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.domain.enums.ImageStatusCode;
+import com.doners.donersbackend.domain.enums.UploadStatusCode;
+import com.doners.donersbackend.domain.enums.UploadTypeCode;
 import com.doners.donersbackend.domain.enums.UserCode;
 import com.doners.donersbackend.domain.repository.FileRepository;
 import com.doners.donersbackend.domain.repository.ImageRepository;
+import com.doners.donersbackend.domain.repository.UploadTaskRepository;
 import com.doners.donersbackend.domain.repository.UserRepository;
 import com.doners.donersbackend.domain.repository.donation.DonationBudgetRepository;
 import com.doners.donersbackend.domain.repository.donation.DonationRepository;
-import com.doners.donersbackend.security.util.JwtAuthenticationProvider;
+import com.doners.donersbackend.domain.repository.donation.projection.DonationListProjection;
+import com.doners.donersbackend.util.image.ImageVariantUtils;
+import com.doners.donersbackend.util.pagination.CursorUtils;
+import com.doners.donersbackend.util.pagination.InvalidCursorException;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload.FileUploadException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.transaction.Transactional;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.sql.Date;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DonationServiceImpl implements DonationService {
 
+    private static final int PAGE_SIZE = 9;
+
     private final DonationRepository donationRepository;
 
     private final DonationBudgetRepository donationBudgetRepository;
@@ -43,15 +76,35 @@ public class DonationServiceImpl implements DonationService {
 
     private final FileRepository fileRepository;
 
+    private final UploadTaskRepository uploadTaskRepository;
+
     private final AwsS3Service awsS3Service;
 
-    private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final UploadPipeline uploadPipeline;
+
+    private final StreamingUploader streamingUploader;
+
+    private final DonationSearchIndex donationSearchIndex;
+
+    private final DonationSearchSnapshots donationSearchSnapshots;
+
+    private final OpenDonationIndex openDonationIndex;
+
+    private final EngagementCounterService engagementCounterService;
+
+    private final DonationDetailCache donationDetailCache;
+
+    private final UserCache userCache;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     @Override
-    public Boolean createDonation(String accessToken, DonationRegisterPostDTO donationRegisterPostDTO, MultipartFile certificate, MultipartFile image, List<MultipartFile> evidence) {
-
-        User user = convertAccessTokenToUser(accessToken);
+    public Boolean createDonation(User user, DonationRegisterPostDTO donationRegisterPostDTO, MultipartFile certificate, MultipartFile image, List<MultipartFile> evidence) {
 
         Donation donation = Donation.builder()
                 .phone(donationRegisterPostDTO.getPhone())
@@ -78,9 +131,13 @@ public class DonationServiceImpl implements DonationService {
 
         donationRepository.save(donation);
 
-        // 예산안
+        donationSearchIndex.indexAfterCommit(donation);
+
+        // 예산안 (커밋 시 batch insert)
+        List<DonationBudget> donationBudgetList = new ArrayList<>();
+
         donationRegisterPostDTO.getBudget().forEach(donationBudgetRequestDTO ->
-                donationBudgetRepository.save(
+                donationBudgetList.add(
                         DonationBudget.builder()
                                 .plan(donationBudgetRequestDTO.getPlan())
                                 .amount(donationBudgetRequestDTO.getAmount())
@@ -90,6 +147,8 @@ public class DonationServiceImpl implements DonationService {
                 )
         );
 
+        donationBudgetRepository.saveAll(donationBudgetList);
+
         // 대표 사진 및 증빙 자료 업로드
         uploadDonationFile(donation, image, evidence);
 
@@ -101,135 +160,84 @@ public class DonationServiceImpl implements DonationService {
     }
 
     @Override
-    public DonationGetListWrapperResponseDTO getDonationList(CategoryCode categoryCode, int page, int sort, boolean view) {
-
-        List<Donation> donationList = new ArrayList<>();
-
-        // 전체 보기
-        if (!view) {
-            switch (sort) {
-                // 최신 순
-                case 1:
-                    donationList = donationRepository
-                            .findByCategoryCodeAndIsApprovedAndIsDeleted(categoryCode, true, false, PageRequest.of(page - 1, 9, Sort.Direction.DESC, "startDate"))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 마감 임박 순
-                case 2:
-                    donationList = donationRepository
-                            .findByCategoryCodeAndIsApprovedAndIsDeleted(categoryCode, true, false, PageRequest.of(page - 1, 9, Sort.Direction.ASC, "endDate"))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-            }
-            // 모금 가능한 기부만 보기
-        } else {
-            LocalDate now = LocalDate.now();
-
-            switch (sort) {
-                // 최신 순
-                case 1:
-                    donationList = donationRepository
-                            .findByCategoryCodeAndIsApprovedAndIsDeletedAndEndDateGreaterThanEqual(categoryCode, true, false, now, PageRequest.of(page - 1, 9, Sort.Direction.DESC, "startDate"))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 마감 임박 순
-                case 2:
-                    donationList = donationRepository
-                            .findByCategoryCodeAndIsApprovedAndIsDeletedAndEndDateGreaterThanEqual(categoryCode, true, false, now, PageRequest.of(page - 1, 9, Sort.Direction.ASC, "endDate"))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-            }
+    public DonationGetListWrapperResponseDTO getDonationList(CategoryCode categoryCode, int page, int sort, boolean view, String cursor) {
+
+        List<DonationListProjection> donationList = new ArrayList<>();
+
+        // 커서가 있으면 커서 이후부터, 없으면 기존 페이지 번호로 조회
+        Pageable pageable = createPageable(page, cursor);
+        String[] cursorValues = decodeCursor(cursor);
+        LocalDate cursorDate = cursorValues[0] == null ? null : CursorUtils.parseDate(cursorValues[0]);
+
+        // 모금 가능한 기부만 보기 : 메모리 색인에서 조회
+        if (view && openDonationIndex.isLoaded() && (sort == 1 || sort == 2)) {
+            donationList = openDonationIndex.getList(categoryCode, sort == 2, LocalDate.now(), cursorDate, cursorValues[1], cursor == null ? (page - 1) * PAGE_SIZE : 0, PAGE_SIZE);
+
+            return convertDonationListToDTO(donationList, createNextCursor(donationList, sort == 2));
+        }
+
+        switch (sort) {
+            // 최신 순
+            case 1:
+                donationList = donationRepository
+                        .findByCategoryCodeOrderByStartDate(categoryCode, view, LocalDate.now(), cursorDate, cursorValues[1], pageable)
+                        .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
+                break;
+            // 마감 임박 순
+            case 2:
+                donationList = donationRepository
+                        .findByCategoryCodeOrderByEndDate(categoryCode, view, LocalDate.now(), cursorDate, cursorValues[1], pageable)
+                        .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
+                break;
         }
 
-        return convertDonationListToDTO(donationList);
+        return convertDonationListToDTO(donationList, createNextCursor(donationList, sort == 2));
 
     }
 
     @Override
-    public DonationGetListWrapperResponseDTO getPendingDonationList(String accessToken) throws Exception {
-
-        User user = convertAccessTokenToUser(accessToken);
+    public DonationGetListWrapperResponseDTO getPendingDonationList(User user, CategoryCode categoryCode, Boolean deputy, int page, String cursor) throws Exception {
 
         if (!user.getUserCode().equals(UserCode.ADMIN)) throw new Exception("관리자가 아닙니다.");
 
-        List<Donation> pendingDonationList = donationRepository.findByIsApprovedAndApprovalStatusCode(false, ApprovalStatusCode.BEFORE_CONFIRMATION)
+        // 오래된 신청부터 (startDate, id) 순으로 페이지 조회
+        String[] cursorValues = decodeCursor(cursor);
+        LocalDate cursorDate = cursorValues[0] == null ? null : CursorUtils.parseDate(cursorValues[0]);
+
+        List<DonationListProjection> pendingDonationList = donationRepository.findPendingList(ApprovalStatusCode.BEFORE_CONFIRMATION, categoryCode, deputy, cursorDate, cursorValues[1], createPageable(page, cursor))
                 .orElseThrow(() -> new IllegalArgumentException("미승인 기부 요청이 없습니다."));
 
-        return convertDonationListToDTO(pendingDonationList);
+        return convertDonationListToDTO(pendingDonationList, createNextCursor(pendingDonationList, false));
 
     }
 
-    @Transactional
     @Override
     public DonationResponseDTO getDonation(String donationId) {
 
-        Donation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 기부글을 찾을 수 없습니다."));
+        // 캐시에 없으면 한 요청만 DB 에서 조회
+        CachedDonationDetail cached = donationDetailCache.get(donationId, () -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
 
-        // 예산안
-        List<DonationBudget> donationBudgetList = donationBudgetRepository.findByDonation(donation)
-                .orElseThrow(() -> new IllegalArgumentException("해당 기부글에 대한 예산안을 찾을 수 없습니다."));
-        List<DonationBudgetResponseDTO> donationBudgetResponseDTOList = new ArrayList<>();
-
-        donationBudgetList.forEach(donationBudget ->
-                donationBudgetResponseDTOList.add(
-                        DonationBudgetResponseDTO.builder()
-                                .plan(donationBudget.getPlan())
-                                .amount(donationBudget.getAmount())
-                                .sequence(donationBudget.getSequence())
-                                .build()
-                )
-        );
-
-        // 증빙 자료
-        List<File> fileList = fileRepository.findByDonation(donation)
-                .orElseThrow(() -> new IllegalArgumentException("해당 기부글에 대한 증빙 자료를 찾을 수 없습니다."));
-
-        List<FileResponseDTO> evidence = new ArrayList<>();
-
-        fileList.forEach(file ->
-                evidence.add(FileResponseDTO.builder()
-                        .name(file.getOriginalFileName())
-                        .url(awsS3Service.getFilePath(file.getSavedFileName()))
-                        .build()
-                )
-        );
+            return transactionTemplate.execute(status -> loadDonation(donationId));
+        });
 
         // 조회수 증가
-        increaseViews(donation);
-
-        DonationResponseDTO donationResponseDTO = DonationResponseDTO.builder()
-                .contractAddress(donation.getContractAddress())
-                .title(donation.getTitle())
-                .categoryCode(donation.getCategoryCode())
-                .views(donation.getViews())
-                .recommendations(donation.getRecommendations())
-                .description(donation.getDescription())
-                .image(getDonationImage(donation, false))
-                .startDate(donation.getStartDate())
-                .endDate(donation.getEndDate())
-                .account(donation.getAccount())
-                .targetAmount(donation.getAmount())
-                .budget(donationBudgetResponseDTOList)
-                .name(donation.getUser().getUserName())
-                .nickname(donation.getUser().getUserNickname())
-                .email(donation.getUser().getUserEmail())
-                .phone(donation.getPhone())
-                .deputy(donation.isDeputy())
-                .exist(donationRepository.existsByUserAndIsReceived(donation.getUser(), true))
-                .approvalStatusCode(donation.getApprovalStatusCode())
-                .evidence(evidence)
-                .build();
+        engagementCounterService.increase(CounterType.DONATION_VIEWS, donationId);
 
-        // 대리인
-        if (donation.isDeputy()) donationResponseDTO.changeBeneficiaryName(donation.getBeneficiaryName());
+        // 캐시된 이후 증가한 조회수 / 추천수 반영 (캐시에서 막 제거되어 추적이 끝난 경우는 0)
+        DonationResponseDTO donationResponseDTO = cached.getDonationResponseDTO();
 
-        return donationResponseDTO;
+        return donationResponseDTO.copy(
+                donationResponseDTO.getViews() + Math.max(0, engagementCounterService.getTotal(CounterType.DONATION_VIEWS, donationId) - cached.getTotalViews()),
+                donationResponseDTO.getRecommendations() + Math.max(0, engagementCounterService.getTotal(CounterType.DONATION_RECOMMENDATIONS, donationId) - cached.getTotalRecommendations())
+        );
 
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public DonationRecommendResponseDTO recommendDonation(String accessToken, DonationPatchDTO donationPatchDTO) {
+    public DonationRecommendResponseDTO recommendDonation(User user, DonationPatchDTO donationPatchDTO) {
 
         Donation donation = donationRepository.findById(donationPatchDTO.getDonationId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 기부글을 찾을 수 없습니다."));
@@ -238,76 +246,43 @@ public class DonationServiceImpl implements DonationService {
         increaseRecommendations(donation);
 
         return DonationRecommendResponseDTO.builder()
-                .recommendations(donation.getRecommendations())
+                .recommendations(donation.getRecommendations() + engagementCounterService.getPending(CounterType.DONATION_RECOMMENDATIONS, donation.getId()))
                 .build();
 
     }
 
     @Override
-    public DonationGetListWrapperResponseDTO searchDonation(CategoryCode category, String type, String keyword, int page, boolean view) {
-
-        List<Donation> donationList = new ArrayList<>();
-
-        // 전체 보기
-        if (!view) {
-            switch (type) {
-                // 제목 + 사연
-                case "td":
-                    donationList = donationRepository.findByCategoryCodeAndTitleContainingOrDescriptionContaining(category, keyword, keyword, PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 제목
-                case "t":
-                    donationList = donationRepository.findByCategoryCodeAndTitleContaining(category, keyword, PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 사연
-                case "d":
-                    donationList = donationRepository.findByCategoryCodeAndDescriptionContaining(category, keyword, PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 닉네임
-                case "n":
-                    donationList = donationRepository.findByCategoryCodeAndUser(category, userRepository.findByUserNicknameAndUserIsDeleted(keyword, false).orElse(null), PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-            }
-            // 모금 가능한 기부만 보기
-        } else {
-            LocalDate now = LocalDate.now();
-
-            switch (type) {
-                // 제목 + 사연
-                case "td":
-                    donationList = donationRepository.findByCategoryCodeAndTitleContainingOrDescriptionContainingAndEndDateGreaterThanEqual(category, keyword, keyword, now, PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 제목
-                case "t":
-                    donationList = donationRepository.findByCategoryCodeAndTitleContainingAndEndDateGreaterThanEqual(category, keyword, now, PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 사연
-                case "d":
-                    donationList = donationRepository.findByCategoryCodeAndDescriptionContainingAndEndDateGreaterThanEqual(category, keyword, now, PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-                // 닉네임
-                case "n":
-                    donationList = donationRepository.findByCategoryCodeAndUserAndEndDateGreaterThanEqual(category, userRepository.findByUserNicknameAndUserIsDeleted(keyword, false).orElse(null), now, PageRequest.of(page - 1, 9))
-                            .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
-                    break;
-            }
+    public DonationGetListWrapperResponseDTO searchDonation(CategoryCode category, String type, String keyword, int page, boolean view, String cursor) {
+
+        switch (type) {
+            // 제목 + 사연
+            case "td":
+                return searchDonationIndex(category, SearchType.TITLE_OR_DESCRIPTION, keyword, page, view, cursor);
+            // 제목
+            case "t":
+                return searchDonationIndex(category, SearchType.TITLE, keyword, page, view, cursor);
+            // 사연
+            case "d":
+                return searchDonationIndex(category, SearchType.DESCRIPTION, keyword, page, view, cursor);
+            // 닉네임
+            case "n":
+                // 최신 순으로 정렬하고, 커서가 있으면 (startDate, id) 이후부터 조회
+                String[] cursorValues = decodeCursor(cursor);
+                LocalDate cursorDate = cursorValues[0] == null ? null : CursorUtils.parseDate(cursorValues[0]);
+
+                List<DonationListProjection> donationList = donationRepository.searchByUser(category, userCache.getByNickname(keyword, () -> userRepository.findByUserNicknameAndUserIsDeleted(keyword, false)).orElse(null), view, LocalDate.now(), cursorDate, cursorValues[1], createPageable(page, cursor))
+                        .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
+
+                return convertDonationListToDTO(donationList, createNextCursor(donationList, false));
         }
 
-        return convertDonationListToDTO(donationList);
+        return convertDonationListToDTO(new ArrayList<>(), null);
 
     }
 
+    @Transactional
     @Override
-    public Integer approveDonation(String accessToken, DonationApproveRequestDTO donationApproveRequestDTO) throws NullPointerException {
-
-        User user = convertAccessTokenToUser(accessToken);
+    public Integer approveDonation(User user, DonationApproveRequestDTO donationApproveRequestDTO) throws NullPointerException {
 
         if (!user.getUserCode().equals(UserCode.ADMIN)) return 0;
 
@@ -326,9 +301,19 @@ public class DonationServiceImpl implements DonationService {
 
             donationRepository.save(donation);
 
+            donationSearchIndex.indexAfterCommit(donation);
+            applicationEventPublisher.publishEvent(new DonationChangedEvent(donation.getId()));
+            applicationEventPublisher.publishEvent(new DonationReviewedEvent(donation.getId(), false));
+
             return 2;
         }
 
+        // 증빙 자료가 없는 기부글은 승인할 수 없음
+        if (!fileRepository.existsByDonationAndIsCertificate(donation, false)) return 4;
+
+        // 업로드가 끝나지 않았거나 실패한 파일이 있으면 승인할 수 없음
+        if (!findUploadBlockedDonationIdList(Collections.singleton(donation.getId())).isEmpty()) return 5;
+
         // 승인 처리
         donation.changeIsApproved();
         donation.changeApprovalStatusCode(ApprovalStatusCode.APPROVAL);
@@ -337,24 +322,111 @@ public class DonationServiceImpl implements DonationService {
 
         donationRepository.save(donation);
 
+        donationSearchIndex.indexAfterCommit(donation);
+        applicationEventPublisher.publishEvent(new DonationChangedEvent(donation.getId()));
+        applicationEventPublisher.publishEvent(new DonationReviewedEvent(donation.getId(), true));
+
         return 3;
 
     }
 
+    @Transactional
     @Override
-    public DonationCheckResponseDTO checkDonation(String accessToken) {
+    public DonationBulkApproveResponseDTO approveDonationList(User user, DonationBulkApproveRequestDTO donationBulkApproveRequestDTO) {
+
+        if (!user.getUserCode().equals(UserCode.ADMIN)) throw new AccessDeniedException("관리자가 아닙니다.");
+
+        // 같은 기부글이 여러 번 들어오면 마지막 요청 기준
+        Map<String, DonationApproveRequestDTO> requestMap = new LinkedHashMap<>();
+        donationBulkApproveRequestDTO.getDonationList().forEach(request -> requestMap.put(request.getDonationId(), request));
+
+        // 아직 승인 대기 중인 기부글만 처리
+        Set<String> pendingIdSet = new HashSet<>(donationRepository.findPendingIdByIdIn(requestMap.keySet(), ApprovalStatusCode.BEFORE_CONFIRMATION));
+
+        // 증빙 자료가 없는 기부글은 승인할 수 없음 (거절은 가능)
+        Set<String> evidenceIdSet = pendingIdSet.isEmpty() ? Collections.<String>emptySet() : new HashSet<>(fileRepository.findEvidenceDonationIdByDonationIdIn(pendingIdSet));
+
+        // 업로드가 끝나지 않았거나 실패한 파일이 있는 기부글도 승인할 수 없음
+        Set<String> uploadBlockedIdSet = pendingIdSet.isEmpty() ? Collections.<String>emptySet() : new HashSet<>(findUploadBlockedDonationIdList(pendingIdSet));
+
+        List<String> failedDonationIdList = new ArrayList<>();
+        List<Object[]> approveArgs = new ArrayList<>();
+        List<Object[]> rejectArgs = new ArrayList<>();
+        Date today = Date.valueOf(LocalDate.now());
+
+        requestMap.values().forEach(request -> {
+            if (!pendingIdSet.contains(request.getDonationId())) {
+                failedDonationIdList.add(request.getDonationId());
+            } else if (request.isApproved() && (!evidenceIdSet.contains(request.getDonationId()) || uploadBlockedIdSet.contains(request.getDonationId()))) {
+                failedDonationIdList.add(request.getDonationId());
+            } else if (request.isApproved()) {
+                approveArgs.add(new Object[]{ApprovalStatusCode.APPROVAL.getCode(), request.getContractAddress(), today, request.getDonationId(), ApprovalStatusCode.BEFORE_CONFIRMATION.getCode()});
+            } else if (request.getRejectionCode() == null || request.getRejectionCode() == ApprovalStatusCode.BEFORE_CONFIRMATION || request.getRejectionCode() == ApprovalStatusCode.APPROVAL) {
+                failedDonationIdList.add(request.getDonationId());
+            } else {
+                rejectArgs.add(new Object[]{request.getRejectionCode().getCode(), request.getDonationId(), ApprovalStatusCode.BEFORE_CONFIRMATION.getCode()});
+            }
+        });
+
+        // 승인 : 컨트랙트 주소가 기부글마다 달라서 JDBC batch UPDATE
+        List<String> approvedIdList = new ArrayList<>();
+
+        if (!approveArgs.isEmpty()) {
+            int[] results = jdbcTemplate.batchUpdate("UPDATE donation SET donation_is_approved = true, donation_approval_status_code = ?, donation_contract_address = ?, donation_start_date = ? " +
+                    "WHERE id = ? AND donation_is_approved = false AND donation_approval_status_code = ?", approveArgs);
+
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == 0) failedDonationIdList.add((String) approveArgs.get(i)[3]);
+                else approvedIdList.add((String) approveArgs.get(i)[3]);
+            }
+        }
+
+        // 거절 : 실제로 바뀐 기부글만 알림을 보내도록 승인과 같이 JDBC batch UPDATE 후 행별 결과 확인
+        List<String> rejectedIdList = new ArrayList<>();
+
+        if (!rejectArgs.isEmpty()) {
+            int[] results = jdbcTemplate.batchUpdate("UPDATE donation SET donation_approval_status_code = ?, donation_is_deleted = true " +
+                    "WHERE id = ? AND donation_is_approved = false AND donation_approval_status_code = ?", rejectArgs);
+
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == 0) failedDonationIdList.add((String) rejectArgs.get(i)[1]);
+                else rejectedIdList.add((String) rejectArgs.get(i)[1]);
+            }
+        }
+
+        // 승인 / 거절 알림 (같은 트랜잭션에서 생성)
+        applicationEventPublisher.publishEvent(new DonationReviewedEvent(approvedIdList, true));
+        applicationEventPublisher.publishEvent(new DonationReviewedEvent(rejectedIdList, false));
+
+        // 색인 / 캐시 갱신
+        List<String> changedIdList = new ArrayList<>(pendingIdSet);
+        changedIdList.removeAll(failedDonationIdList);
+
+        donationSearchIndex.indexAfterCommit(changedIdList);
+        changedIdList.forEach(donationId -> applicationEventPublisher.publishEvent(new DonationChangedEvent(donationId)));
+
+        return DonationBulkApproveResponseDTO.builder()
+                .approvedCount(approvedIdList.size())
+                .rejectedCount(rejectedIdList.size())
+                .failedDonationIdList(failedDonationIdList)
+                .build();
+
+    }
+
+    @Override
+    public DonationCheckResponseDTO checkDonation(User user) {
 
         // 승인 전이거나 승인이 되고, 마감일이 오늘 이후라면 신청 기록 존재
         return DonationCheckResponseDTO.builder()
-                .check(donationRepository.findByUserAndApprovalStatusCodeLessThanEqualAndEndDateGreaterThanEqual(convertAccessTokenToUser(accessToken), ApprovalStatusCode.APPROVAL, LocalDate.now()).orElse(null) != null)
+                .check(donationRepository.findByUserAndApprovalStatusCodeLessThanEqualAndEndDateGreaterThanEqual(user, ApprovalStatusCode.APPROVAL, LocalDate.now()).orElse(null) != null)
                 .build();
 
     }
 
     @Override
-    public DonationCheckResponseDTO checkApprovedDonation(String accessToken) {
+    public DonationCheckResponseDTO checkApprovedDonation(User user) {
 
-        List<Donation> donationList = donationRepository.findByUserAndIsApproved(convertAccessTokenToUser(accessToken), true)
+        List<Donation> donationList = donationRepository.findByUserAndIsApproved(user, true)
                 .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다"));
 
         return DonationCheckResponseDTO.builder()
@@ -364,13 +436,11 @@ public class DonationServiceImpl implements DonationService {
     }
 
     @Override
-    public Integer receiveDonation(String accessToken, DonationPatchDTO donationPatchDTO) {
-
-        User requestUser = convertAccessTokenToUser(accessToken);
+    public Integer receiveDonation(User user, DonationPatchDTO donationPatchDTO) {
 
         Donation donation = donationRepository.findById(donationPatchDTO.getDonationId()).orElseThrow(() -> new IllegalArgumentException("해당 기부 글이 존재하지 않습니다."));
 
-        if (!requestUser.getId().equals(donation.getUser().getId())) return 401;
+        if (!user.getId().equals(donation.getUser().getId())) return 401;
 
         try {
             donation.changeIsReceived();
@@ -380,6 +450,9 @@ public class DonationServiceImpl implements DonationService {
             return 409;
         }
 
+        // 작성자의 다른 기부글에 표시되는 기존 기부 수령 여부도 바뀜
+        applicationEventPublisher.publishEvent(new DonationChangedEvent(donation.getId(), user.getId()));
+
         return 200;
 
     }
@@ -387,57 +460,181 @@ public class DonationServiceImpl implements DonationService {
     @Override
     public void uploadDonationFile(Donation donation, MultipartFile image, List<MultipartFile> evidence) {
 
+        // S3 업로드는 커밋 이후 업로드 파이프라인에서 처리 (파일명은 미리 정해서 저장)
         if (image != null) {
-            String fileName = awsS3Service.uploadImage(image);
+            String fileName = uploadPipeline.stage(donation, image, UploadTypeCode.IMAGE);
 
-            imageRepository.save(Image.builder()
+            Image original = Image.builder()
                     .imageOriginFileName(image.getOriginalFilename())
                     .imageNewFileName(fileName)
                     .donation(donation)
-                    .build());
-
-            String thumbNailFileName = awsS3Service.uploadThumbnailImage(fileName, image);
+                    .build();
 
+            // 썸네일이 생성되기 전까지는 원본 사진을 가리킴
             Image thumbNail = Image.builder()
                     .imageOriginFileName(image.getOriginalFilename())
-                    .imageNewFileName(thumbNailFileName)
+                    .imageNewFileName(fileName)
                     .imageIsResized(true)
+                    .imageStatusCode(ImageStatusCode.PENDING)
                     .donation(donation)
                     .build();
 
-            imageRepository.save(thumbNail);
+            imageRepository.saveAll(Arrays.asList(original, thumbNail));
+
+            uploadPipeline.stageThumbnail(donation, thumbNail, fileName);
         }
 
+        List<File> evidenceFileList = new ArrayList<>();
+
         evidence.forEach(file -> {
-            String fileName = awsS3Service.uploadFile(file);
+            String fileName = uploadPipeline.stage(donation, file, UploadTypeCode.EVIDENCE);
 
-            File evidenceFile = File.builder()
+            evidenceFileList.add(File.builder()
                     .originalFileName(file.getOriginalFilename())
                     .savedFileName(fileName)
                     .donation(donation)
-                    .build();
-
-            fileRepository.save(evidenceFile);
+                    .build());
         });
 
+        fileRepository.saveAll(evidenceFileList);
+
+        applicationEventPublisher.publishEvent(new DonationChangedEvent(donation.getId()));
+
     }
 
     @Override
     public void uploadCertificateFile(Donation donation, MultipartFile certificate) {
 
-        String fileName = awsS3Service.uploadFile(certificate);
+        String fileName = uploadPipeline.stage(donation, certificate, UploadTypeCode.CERTIFICATE);
 
         File certificateFile = File.builder()
                 .originalFileName(certificate.getOriginalFilename())
                 .savedFileName(fileName)
+                .isCertificate(true)
                 .donation(donation)
                 .build();
 
         fileRepository.save(certificateFile);
 
+        applicationEventPublisher.publishEvent(new DonationChangedEvent(donation.getId()));
+
+    }
+
+    // 요청을 처리하는 동안 S3 로 전송하므로 트랜잭션 없이 처리 (업로드가 끝난 파일만 저장)
+    // 이 경로는 open-in-view 에서 제외되어 있으므로 조회가 끝나면 커넥션을 반납하고 스트리밍
+    @Override
+    public Integer uploadEvidenceStream(User user, String donationId, HttpServletRequest request) throws IOException, FileUploadException {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Donation donation = transactionTemplate.execute(status -> donationRepository.findById(donationId)
+                .filter(d -> !d.isDeleted())
+                .orElseThrow(() -> new IllegalArgumentException("해당 기부글을 찾을 수 없습니다.")));
+
+        if (!user.getId().equals(donation.getUser().getId())) return 401;
+
+        // 심사가 끝난 기부글의 증빙 자료는 바꿀 수 없음
+        if (donation.getApprovalStatusCode() != ApprovalStatusCode.BEFORE_CONFIRMATION) return 409;
+
+        List<StreamingUploader.UploadedFile> uploadedFiles = streamingUploader.upload(request, "evidence");
+
+        if (uploadedFiles.isEmpty()) throw new FileUploadException("업로드할 증빙 자료가 없습니다.");
+
+        List<File> evidenceFileList = new ArrayList<>();
+
+        uploadedFiles.forEach(uploadedFile ->
+                evidenceFileList.add(File.builder()
+                        .originalFileName(uploadedFile.getOriginalFileName())
+                        .savedFileName(uploadedFile.getSavedFileName())
+                        .donation(donation)
+                        .build())
+        );
+
+        try {
+            fileRepository.saveAll(evidenceFileList);
+        } catch (RuntimeException e) {
+            // 저장하지 못한 파일은 S3 에서도 삭제
+            streamingUploader.delete(uploadedFiles);
+            throw e;
+        }
+
+        applicationEventPublisher.publishEvent(new DonationChangedEvent(donation.getId()));
+
+        return 201;
+
+    }
+
+    private CachedDonationDetail loadDonation(String donationId) {
+
+        // 캐시에서 제거될 때까지 누적 증가량 추적
+        long totalViews = engagementCounterService.track(CounterType.DONATION_VIEWS, donationId);
+        long totalRecommendations = engagementCounterService.track(CounterType.DONATION_RECOMMENDATIONS, donationId);
+
+        Donation donation = donationRepository.findById(donationId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 기부글을 찾을 수 없습니다."));
+
+        // 예산안
+        List<DonationBudget> donationBudgetList = donationBudgetRepository.findByDonation(donation)
+                .orElseThrow(() -> new IllegalArgumentException("해당 기부글에 대한 예산안을 찾을 수 없습니다."));
+        List<DonationBudgetResponseDTO> donationBudgetResponseDTOList = new ArrayList<>();
+
+        donationBudgetList.forEach(donationBudget ->
+                donationBudgetResponseDTOList.add(
+                        DonationBudgetResponseDTO.builder()
+                                .plan(donationBudget.getPlan())
+                                .amount(donationBudget.getAmount())
+                                .sequence(donationBudget.getSequence())
+                                .build()
+                )
+        );
+
+        // 증빙 자료
+        List<File> fileList = fileRepository.findByDonation(donation)
+                .orElseThrow(() -> new IllegalArgumentException("해당 기부글에 대한 증빙 자료를 찾을 수 없습니다."));
+
+        List<FileResponseDTO> evidence = new ArrayList<>();
+
+        fileList.forEach(file ->
+                evidence.add(FileResponseDTO.builder()
+                        .name(file.getOriginalFileName())
+                        .url(awsS3Service.getFilePath(file.getSavedFileName()))
+                        .uploadFailed(file.isUploadFailed())
+                        .build()
+                )
+        );
+
+        DonationResponseDTO donationResponseDTO = DonationResponseDTO.builder()
+                .contractAddress(donation.getContractAddress())
+                .title(donation.getTitle())
+                .categoryCode(donation.getCategoryCode())
+                .views(donation.getViews() + engagementCounterService.getPending(CounterType.DONATION_VIEWS, donation.getId()))
+                .recommendations(donation.getRecommendations() + engagementCounterService.getPending(CounterType.DONATION_RECOMMENDATIONS, donation.getId()))
+                .description(donation.getDescription())
+                .image(getDonationDetailImage(donation))
+                .startDate(donation.getStartDate())
+                .endDate(donation.getEndDate())
+                .account(donation.getAccount())
+                .targetAmount(donation.getAmount())
+                .budget(donationBudgetResponseDTOList)
+                .name(donation.getUser().getUserName())
+                .nickname(donation.getUser().getUserNickname())
+                .email(donation.getUser().getUserEmail())
+                .phone(donation.getPhone())
+                .deputy(donation.isDeputy())
+                .exist(donationRepository.existsByUserAndIsReceived(donation.getUser(), true))
+                .approvalStatusCode(donation.getApprovalStatusCode())
+                .evidence(evidence)
+                .build();
+
+        // 대리인
+        if (donation.isDeputy()) donationResponseDTO.changeBeneficiaryName(donation.getBeneficiaryName());
+
+        return new CachedDonationDetail(donationResponseDTO, donation.getUser().getId(), totalViews, totalRecommendations);
+
     }
 
-    private DonationGetListWrapperResponseDTO convertDonationListToDTO(List<Donation> donationList) {
+    private DonationGetListWrapperResponseDTO convertDonationListToDTO(List<DonationListProjection> donationList, String nextCursor) {
 
         List<DonationGetListResponseDTO> donationGetListResponseDTOList = new ArrayList<>();
 
@@ -445,10 +642,10 @@ public class DonationServiceImpl implements DonationService {
                 donationGetListResponseDTOList.add(
                         DonationGetListResponseDTO.builder()
                                 .donationId(donation.getId())
-                                .thumbnail(getDonationImage(donation, true))
+                                .thumbnail(getImageUrl(donation.getThumbnailFileName()))
                                 .title(donation.getTitle())
                                 .beneficiaryName(donation.getBeneficiaryName())
-                                .userNickname(donation.getUser().getUserNickname())
+                                .userNickname(donation.getUserNickname())
                                 .contractAddress(donation.getContractAddress())
                                 .targetAmount(donation.getAmount())
                                 .endDate(donation.getEndDate())
@@ -458,43 +655,142 @@ public class DonationServiceImpl implements DonationService {
 
         return DonationGetListWrapperResponseDTO.builder()
                 .donationGetListResponseDTOList(donationGetListResponseDTOList)
+                .nextCursor(nextCursor)
                 .build();
 
     }
 
-    private String getDonationImage(Donation donation, boolean resized) {
+    // 검색 색인에서 점수 순으로 정렬된 결과를 받아 한 페이지만 조회
+    // 커서 = (스냅샷 토큰, 다음 위치, 마지막 기부글 ID) : 첫 페이지의 정렬 결과를 스냅샷으로 저장하고 다음 페이지는 스냅샷에서 조회
+    // 스냅샷이 만료되었으면 다시 검색해서 마지막 기부글 다음부터 조회 (이때는 순위가 바뀌었을 수 있음)
+    private DonationGetListWrapperResponseDTO searchDonationIndex(CategoryCode category, SearchType searchType, String keyword, int page, boolean view, String cursor) {
 
-        Image image = imageRepository.findByDonationAndImageIsResized(donation, resized).orElse(null);
+        List<String> donationIds = null;
+        String token = null;
+        int from = (page - 1) * PAGE_SIZE;
+
+        if (cursor != null) {
+            String[] cursorValues = CursorUtils.decode(cursor, 3);
+
+            try {
+                from = Integer.parseInt(cursorValues[1]);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException();
+            }
+
+            donationIds = donationSearchSnapshots.get(cursorValues[0]);
 
-        return image == null ? "" : "https://donersa404.s3.ap-northeast-2.amazonaws.com/" + image.getImageNewFileName();
+            if (donationIds != null) {
+                token = cursorValues[0];
+            } else {
+                donationIds = searchDonationIds(category, searchType, keyword, view);
+
+                int index = donationIds.indexOf(cursorValues[2]);
+
+                if (index >= 0) from = index + 1;
+            }
+        }
+
+        if (donationIds == null) donationIds = searchDonationIds(category, searchType, keyword, view);
+
+        if (from < 0 || from >= donationIds.size()) return convertDonationListToDTO(new ArrayList<>(), null);
+
+        List<String> pageIds = donationIds.subList(from, Math.min(from + PAGE_SIZE, donationIds.size()));
+
+        Map<String, DonationListProjection> donationMap = new HashMap<>();
+        donationRepository.findListByIdIn(pageIds)
+                .forEach(donation -> donationMap.put(donation.getId(), donation));
+
+        List<DonationListProjection> donationList = new ArrayList<>();
+        pageIds.forEach(donationId -> {
+            if (donationMap.containsKey(donationId)) donationList.add(donationMap.get(donationId));
+        });
+
+        String nextCursor = null;
+
+        if (from + PAGE_SIZE < donationIds.size()) {
+            if (token == null) token = donationSearchSnapshots.save(donationIds);
+
+            nextCursor = CursorUtils.encode(token, String.valueOf(from + PAGE_SIZE), pageIds.get(pageIds.size() - 1));
+        }
+
+        return convertDonationListToDTO(donationList, nextCursor);
 
     }
 
-    private void increaseViews(Donation donation) {
+    private List<String> searchDonationIds(CategoryCode category, SearchType searchType, String keyword, boolean view) {
 
-        donation.changeViews();
+        return donationSearchIndex.search(category, searchType, keyword, view, LocalDate.now()).stream()
+                .map(DonationSearchHit::getDonationId)
+                .collect(Collectors.toList());
 
-        donationRepository.save(donation);
+    }
+
+    private Pageable createPageable(int page, String cursor) {
+
+        return cursor == null ? PageRequest.of(page - 1, PAGE_SIZE) : PageRequest.of(0, PAGE_SIZE);
 
     }
 
-    private void increaseRecommendations(Donation donation) {
+    // 대표 사진 / 증빙 자료 / 관계 증명서 중 업로드 대기, 진행 중이거나 실패한 파일이 있는 기부글 ID
+    private List<String> findUploadBlockedDonationIdList(Collection<String> donationIds) {
 
-        donation.changeRecommendations();
+        return uploadTaskRepository.findDonationIdByDonationIdInAndStatusIn(donationIds, UploadTypeCode.THUMBNAIL,
+                Arrays.asList(UploadStatusCode.PENDING, UploadStatusCode.IN_PROGRESS, UploadStatusCode.FAILED));
 
-        donationRepository.save(donation);
+    }
+
+    // 커서 = (정렬 기준 날짜, 기부글 ID)
+    private String[] decodeCursor(String cursor) {
+
+        return cursor == null ? new String[]{null, null} : CursorUtils.decode(cursor, 2);
+
+    }
+
+    // 한 페이지가 가득 찼을 때만 다음 페이지 커서 생성
+    private String createNextCursor(List<DonationListProjection> donationList, boolean orderByEndDate) {
+
+        if (donationList.size() < PAGE_SIZE) return null;
+
+        DonationListProjection last = donationList.get(donationList.size() - 1);
+        LocalDate date = orderByEndDate ? last.getEndDate() : last.getStartDate();
+
+        return date == null ? null : CursorUtils.encode(date.toString(), last.getId());
+
+    }
+
+    // 상세 화면 : 상세 크기 썸네일이 있으면 사용, 없으면 (생성 전 / 이전 사진) 원본
+    private String getDonationDetailImage(Donation donation) {
+
+        Image thumbnail = imageRepository.findByDonationAndImageIsResized(donation, true).orElse(null);
+
+        if (thumbnail != null && thumbnail.getImageVariants() != null) {
+            return getImageUrl(thumbnail.getVariantFileName(ImageVariantUtils.DETAIL_SIZE));
+        }
+
+        return getDonationImage(donation, false);
+
+    }
+
+    private String getDonationImage(Donation donation, boolean resized) {
+
+        Image image = imageRepository.findByDonationAndImageIsResized(donation, resized).orElse(null);
+
+        return getImageUrl(image == null ? null : image.getImageNewFileName());
 
     }
 
-    private User convertAccessTokenToUser(String accessToken) {
+    private String getImageUrl(String fileName) {
 
-        String token = accessToken.split(" ")[1];
+        return fileName == null ? "" : "https://donersa404.s3.ap-northeast-2.amazonaws.com/" + fileName;
 
-        String userAccount = jwtAuthenticationProvider.getUserAccount(token);
+    }
+
+    private void increaseRecommendations(Donation donation) {
 
-        return userRepository.findByUserAccountAndUserIsDeleted(userAccount, false)
-                .orElseThrow(() -> new IllegalArgumentException("해당 계정을 찾을 수 없습니다."));
+        engagementCounterService.increase(CounterType.DONATION_RECOMMENDATIONS, donation.getId());
 
     }
 
+
 }
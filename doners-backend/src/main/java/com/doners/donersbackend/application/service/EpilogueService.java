@@ -6,23 +6,24 @@ import com.doners.donersbackend.application.dto.response.epilogue.EpilogueCheckR
 import com.doners.donersbackend.application.dto.response.epilogue.EpilogueGetListWrapperResponseDTO;
 import com.doners.donersbackend.application.dto.response.epilogue.EpilogueResponseDTO;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
+import com.doners.donersbackend.domain.dao.user.User;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.transaction.Transactional;
 
 public interface EpilogueService {
     @Transactional
-    void registerEpilogue(String accessToken, EpilogueRegisterPostDTO epilogueRegisterPostDTO, MultipartFile image);
+    void registerEpilogue(User user, EpilogueRegisterPostDTO epilogueRegisterPostDTO, MultipartFile image);
 
     Integer changeEpilogue(String epilogueId, EpilogueChangePatchDTO epilogueChangePatchDTO);
 
-    Integer deleteEpilogue(String accessToken, String epilogueId);
+    Integer deleteEpilogue(User user, String epilogueId);
 
-    EpilogueGetListWrapperResponseDTO getEpilogueList(String accessToken, int sequence);
+    EpilogueGetListWrapperResponseDTO getEpilogueList(User user, int sequence);
 
-    EpilogueResponseDTO getEpilogue(String accessToken, String epilogueId);
+    EpilogueResponseDTO getEpilogue(User user, String epilogueId);
 
-    EpilogueCheckResponseDTO checkIfEpilogueExists(String accessToken, String donationId);
+    EpilogueCheckResponseDTO checkIfEpilogueExists(User user, String donationId);
 
     void uploadEpilogueImage(Epilogue epilogue, MultipartFile image);
 }
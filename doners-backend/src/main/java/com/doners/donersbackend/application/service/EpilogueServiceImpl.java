@@ -1,29 +1,36 @@
 package com.doners.donersbackend.application.service;
 
+import com.doners.donersbackend.application.counter.CounterType;
+import com.doners.donersbackend.application.counter.EngagementCounterService;
+import com.doners.donersbackend.application.dto.request.epilogue.EpilogueBudgetRequestDTO;
 import com.doners.donersbackend.application.dto.request.epilogue.EpilogueChangePatchDTO;
 import com.doners.donersbackend.application.dto.request.epilogue.EpilogueRegisterPostDTO;
 import com.doners.donersbackend.application.dto.response.epilogue.*;
+import com.doners.donersbackend.application.upload.UploadPipeline;
 import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.image.Image;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
 import com.doners.donersbackend.domain.dao.epilogue.EpilogueBudget;
 import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.enums.ImageStatusCode;
 import com.doners.donersbackend.domain.repository.ImageRepository;
 import com.doners.donersbackend.domain.repository.donation.DonationRepository;
 import com.doners.donersbackend.domain.repository.epilogue.EpilogueBudgetRepository;
 import com.doners.donersbackend.domain.repository.epilogue.EpilogueRepository;
-import com.doners.donersbackend.domain.repository.UserRepository;
-import com.doners.donersbackend.security.util.JwtAuthenticationProvider;
+import com.doners.donersbackend.domain.repository.epilogue.projection.EpilogueListProjection;
+import com.doners.donersbackend.util.diff.SequenceDiff;
+import com.doners.donersbackend.util.image.ImageVariantUtils;
+import com.doners.donersbackend.util.text.ExcerptUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -33,29 +40,28 @@ public class EpilogueServiceImpl implements EpilogueService {
 
     private final ImageRepository imageRepository;
 
-    private final UserRepository userRepository;
-
     private final EpilogueBudgetRepository epilogueBudgetRepository;
 
     private final DonationRepository donationRepository;
 
     private final AwsS3Service awsS3Service;
 
-    private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final UploadPipeline uploadPipeline;
+
+    private final EngagementCounterService engagementCounterService;
 
 
     // 글 등록 : 필수 글 정보 입력 - 제목, 내용, 작성자
     @Transactional
     @Override
-    public void registerEpilogue(String accessToken, EpilogueRegisterPostDTO epilogueRegisterPostDTO, MultipartFile image) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public void registerEpilogue(User user, EpilogueRegisterPostDTO epilogueRegisterPostDTO, MultipartFile image) {
         Donation donation = donationRepository.findById(epilogueRegisterPostDTO.getDonationId()).orElse(null);
 
         // 글작성 정보 추가할 것
         Epilogue epilogue = Epilogue.builder()
                 .epilogueTitle(epilogueRegisterPostDTO.getEpilogueTitle())
                 .epilogueDescription(epilogueRegisterPostDTO.getEpilogueDescription())
+                .epilogueExcerpt(ExcerptUtils.createExcerpt(epilogueRegisterPostDTO.getEpilogueDescription()))
                 .user(user)
                 .epilogueViews(0L)
                 .epilogueCreateTime(LocalDateTime.now())
@@ -69,9 +75,8 @@ public class EpilogueServiceImpl implements EpilogueService {
     }
 
     @Override
-    public Integer changeEpilogue(String accessToken, EpilogueChangePatchDTO epilogueChangePatchDTO) {
-        User user = getUserFromAccessToken(accessToken);
-
+    @Transactional
+    public Integer changeEpilogue(User user, EpilogueChangePatchDTO epilogueChangePatchDTO) {
         Epilogue epilogue = epilogueRepository.findById(epilogueChangePatchDTO.getEpilogueId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 에필로그를 찾을 수 없습니다."));
 
@@ -94,9 +99,7 @@ public class EpilogueServiceImpl implements EpilogueService {
     }
 
     @Override
-    public Integer deleteEpilogue(String accessToken, String epilogueId) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public Integer deleteEpilogue(User user, String epilogueId) {
         Epilogue epilogue = epilogueRepository.findByIdAndEpilogueIsDeleted(epilogueId, false)
                 .orElseThrow(() -> new IllegalArgumentException("해당 글을 찾을 수 없습니다."));
 
@@ -115,11 +118,8 @@ public class EpilogueServiceImpl implements EpilogueService {
     }
 
     @Override
-    public EpilogueGetListWrapperResponseDTO getEpilogueList(String accessToken, int sequence) {
-        User user = getUserFromAccessToken(accessToken);
-
-        List<Epilogue> epilogueList = epilogueRepository.findByEpilogueIsDeletedOrderByEpilogueCreateTimeDesc(false, PageRequest.of(sequence-1, 9, Sort.Direction.DESC, "epilogueCreateTime"))
-                .orElseThrow(() -> new IllegalArgumentException("에필로그가 없습니다."));
+    public EpilogueGetListWrapperResponseDTO getEpilogueList(User user, int sequence) {
+        List<EpilogueListProjection> epilogueList = epilogueRepository.findEpilogueList(PageRequest.of(sequence-1, 9));
 
         List<EpilogueGetListResponseDTO> epilogueGetListResponseDTOList = new ArrayList<>();
 
@@ -130,10 +130,9 @@ public class EpilogueServiceImpl implements EpilogueService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public EpilogueResponseDTO getEpilogue(String accessToken, String epilogueId) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public EpilogueResponseDTO getEpilogue(User user, String epilogueId) {
         Epilogue epilogue = epilogueRepository.findByIdAndEpilogueIsDeleted(epilogueId, false)
                 .orElseThrow(() -> new IllegalArgumentException("해당 에필로그를 찾을 수 없습니다."));
 
@@ -157,13 +156,11 @@ public class EpilogueServiceImpl implements EpilogueService {
         increaseViews(epilogue);
 
 
-        return createEpilogueResponseDTO(epilogue, epilogueImage, epilogueBudgetResponseDTOList);
+        return createEpilogueResponseDTO(epilogue, getEpilogueDetailImageFileName(epilogue, epilogueImage), epilogueBudgetResponseDTOList);
     }
 
     @Override
-    public EpilogueCheckResponseDTO checkIfEpilogueExists(String accessToken, String donationId) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public EpilogueCheckResponseDTO checkIfEpilogueExists(User user, String donationId) {
         Donation donation = donationRepository.findById(donationId).orElse(null);
         Epilogue epilogue = null;
 
@@ -192,95 +189,123 @@ public class EpilogueServiceImpl implements EpilogueService {
 
             imageRepository.save(img);
 
-            String thumbNailFileName = awsS3Service.uploadThumbnailImage(fileName, image);
-
+            // 썸네일은 작업 스레드에서 생성 (생성되기 전까지는 원본 사진을 가리킴)
             Image thumbNailImg = Image.builder()
                     .imageOriginFileName(image.getOriginalFilename())
-                    .imageNewFileName(thumbNailFileName)
+                    .imageNewFileName(fileName)
                     .imageIsResized(true)
+                    .imageStatusCode(ImageStatusCode.PENDING)
                     .epilogue(epilogue)
                     .build();
 
             imageRepository.save(thumbNailImg);
+
+            uploadPipeline.stageThumbnail(image, thumbNailImg, fileName);
         }
     }
 
     public void increaseViews(Epilogue epilogue) {
-        epilogue.updateViews();
-        epilogueRepository.save(epilogue);
+        engagementCounterService.increase(CounterType.EPILOGUE_VIEWS, epilogue.getId());
+    }
+
+    public long getViews(Epilogue epilogue) {
+        return getViews(epilogue.getId(), epilogue.getEpilogueViews());
+    }
+
+    public long getViews(String epilogueId, Long epilogueViews) {
+        long views = epilogueViews == null ? 0L : epilogueViews;
+
+        return views + engagementCounterService.getPending(CounterType.EPILOGUE_VIEWS, epilogueId);
     }
 
     public void registerEpilogueBudgets(Epilogue epilogue, EpilogueRegisterPostDTO epilogueRegisterPostDTO) {
+        List<EpilogueBudget> epilogueBudgetList = new ArrayList<>();
+
         epilogueRegisterPostDTO.getEpilogueBudgetRequestDTOList().forEach(epilogueBudgetRequestDTO ->
-                epilogueBudgetRepository.save(
-                        EpilogueBudget.builder()
-                                .epilogueBudgetPlan(epilogueBudgetRequestDTO.getEpilogueBudgetPlan())
-                                .epilogueBudgetAmount(epilogueBudgetRequestDTO.getEpilogueBudgetAmount())
-                                .epilogueBudgetSequence(epilogueBudgetRequestDTO.getEpilogueBudgetSequence())
-                                .epilogue(epilogue)
-                                .build()
-                )
+                epilogueBudgetList.add(createEpilogueBudget(epilogue, epilogueBudgetRequestDTO))
         );
+
+        epilogueBudgetRepository.saveAll(epilogueBudgetList);
     }
 
+    // 순서 기준으로 바뀐 항목만 반영 : 추가는 일괄 INSERT, 변경은 변경 감지, 삭제는 한 번의 DELETE
     @Transactional
     public void changeEpilogueBudgets(Epilogue epilogue, EpilogueChangePatchDTO epilogueChangePatchDTO) {
         List<EpilogueBudget> epilogueBudgetList = epilogueBudgetRepository.findAllByEpilogue(epilogue)
                         .orElseThrow(() -> new IllegalArgumentException("EpilogueBudget이 존재하지 않습니다."));
 
-        epilogueBudgetList.forEach(epilogueBudget -> epilogueBudgetRepository.delete(epilogueBudget));
+        SequenceDiff<EpilogueBudget, EpilogueBudgetRequestDTO> diff = SequenceDiff.of(
+                epilogueBudgetList, EpilogueBudget::getEpilogueBudgetSequence,
+                epilogueChangePatchDTO.getEpilogueBudgetRequestDTOList(), EpilogueBudgetRequestDTO::getEpilogueBudgetSequence,
+                (epilogueBudget, epilogueBudgetRequestDTO) ->
+                        Objects.equals(epilogueBudget.getEpilogueBudgetPlan(), epilogueBudgetRequestDTO.getEpilogueBudgetPlan())
+                                && epilogueBudget.getEpilogueBudgetAmount() == epilogueBudgetRequestDTO.getEpilogueBudgetAmount());
 
-        epilogueChangePatchDTO.getEpilogueBudgetRequestDTOList().forEach(epilogueBudgetRequestDTO ->
-                epilogueBudgetRepository.save(
-                        EpilogueBudget.builder()
-                                .epilogueBudgetPlan(epilogueBudgetRequestDTO.getEpilogueBudgetPlan())
-                                .epilogueBudgetAmount(epilogueBudgetRequestDTO.getEpilogueBudgetAmount())
-                                .epilogueBudgetSequence(epilogueBudgetRequestDTO.getEpilogueBudgetSequence())
-                                .epilogue(epilogue)
-                                .build()
-                )
+        if(!diff.getDeletes().isEmpty()) {
+            epilogueBudgetRepository.deleteAllInBatch(diff.getDeletes());
+        }
+
+        diff.getUpdates().forEach((epilogueBudget, epilogueBudgetRequestDTO) ->
+                epilogueBudget.changeEpilogueBudget(epilogueBudgetRequestDTO.getEpilogueBudgetPlan(), epilogueBudgetRequestDTO.getEpilogueBudgetAmount())
         );
+
+        List<EpilogueBudget> insertList = new ArrayList<>();
+
+        diff.getInserts().forEach(epilogueBudgetRequestDTO -> insertList.add(createEpilogueBudget(epilogue, epilogueBudgetRequestDTO)));
+
+        epilogueBudgetRepository.saveAll(insertList);
     }
 
-    public List<EpilogueGetListResponseDTO> createEpilogueGetListReponseDTOList(List<Epilogue> epilogueList, List<EpilogueGetListResponseDTO> epilogueGetListResponseDTOList) {
-        epilogueList.forEach(epilogue -> {
-            Image epilogueThumbnailImage = imageRepository.findByEpilogueAndImageIsResized(epilogue, true)
-                    .orElseThrow(() -> new IllegalArgumentException("에필로그 썸네일 이미지가 없습니다."));
+    private EpilogueBudget createEpilogueBudget(Epilogue epilogue, EpilogueBudgetRequestDTO epilogueBudgetRequestDTO) {
+        return EpilogueBudget.builder()
+                .epilogueBudgetPlan(epilogueBudgetRequestDTO.getEpilogueBudgetPlan())
+                .epilogueBudgetAmount(epilogueBudgetRequestDTO.getEpilogueBudgetAmount())
+                .epilogueBudgetSequence(epilogueBudgetRequestDTO.getEpilogueBudgetSequence())
+                .epilogue(epilogue)
+                .build();
+    }
 
+    public List<EpilogueGetListResponseDTO> createEpilogueGetListReponseDTOList(List<EpilogueListProjection> epilogueList, List<EpilogueGetListResponseDTO> epilogueGetListResponseDTOList) {
+        epilogueList.forEach(epilogue ->
             epilogueGetListResponseDTOList.add(
                     EpilogueGetListResponseDTO.builder()
                             .epilogueId(epilogue.getId())
                             .epilogueTitle(epilogue.getEpilogueTitle())
-                            .epilogueDescription(epilogue.getEpilogueDescription())
+                            .epilogueDescription(epilogue.getEpilogueExcerpt())
                             .epilogueCreateTime(epilogue.getEpilogueCreateTime())
-                            .epilogueViews(epilogue.getEpilogueViews())
-                            .epilogueWriter(epilogue.getUser().getUserNickname())
-                            .epilogueThumbnailImage("https://donersa404.s3.ap-northeast-2.amazonaws.com/" + epilogueThumbnailImage.getImageNewFileName())
+                            .epilogueViews(getViews(epilogue.getId(), epilogue.getEpilogueViews()))
+                            .epilogueWriter(epilogue.getEpilogueWriter())
+                            // 썸네일이 없으면 빈 문자열
+                            .epilogueThumbnailImage(epilogue.getThumbnailFileName() == null ? "" : "https://donersa404.s3.ap-northeast-2.amazonaws.com/" + epilogue.getThumbnailFileName())
                             .build()
-            );
-        });
+            )
+        );
 
         return epilogueGetListResponseDTOList;
     }
 
-    public EpilogueResponseDTO createEpilogueResponseDTO(Epilogue epilogue, Image epilogueImage, List<EpilogueBudgetResponseDTO> epilogueBudgetResponseDTOList) {
+    // 상세 화면 : 상세 크기 썸네일이 있으면 사용, 없으면 (생성 전 / 이전 사진) 원본
+    private String getEpilogueDetailImageFileName(Epilogue epilogue, Image epilogueImage) {
+        Image thumbnailImage = imageRepository.findByEpilogueAndImageIsResized(epilogue, true).orElse(null);
+
+        if (thumbnailImage != null && thumbnailImage.getImageVariants() != null) {
+            return thumbnailImage.getVariantFileName(ImageVariantUtils.DETAIL_SIZE);
+        }
+
+        return epilogueImage.getImageNewFileName();
+    }
+
+    public EpilogueResponseDTO createEpilogueResponseDTO(Epilogue epilogue, String epilogueImageFileName, List<EpilogueBudgetResponseDTO> epilogueBudgetResponseDTOList) {
         return EpilogueResponseDTO.builder()
                 .epilogueTitle(epilogue.getEpilogueTitle())
                 .epilogueDescription(epilogue.getEpilogueDescription())
                 .epilogueCreateTime(epilogue.getEpilogueCreateTime())
-                .epilogueViews(epilogue.getEpilogueViews())
+                .epilogueViews(getViews(epilogue))
                 .epilogueWriter(epilogue.getUser().getUserNickname())
-                .epilogueImage("https://donersa404.s3.ap-northeast-2.amazonaws.com/" + epilogueImage.getImageNewFileName())
+                .epilogueImage("https://donersa404.s3.ap-northeast-2.amazonaws.com/" + epilogueImageFileName)
                 .donationId(epilogue.getDonation().getId())
                 .epilogueBudgetResponseDTOList(epilogueBudgetResponseDTOList)
                 .build();
     }
 
-    public User getUserFromAccessToken(String accessToken) {
-        String token = accessToken.split(" ")[1];
-        String userAccount = jwtAuthenticationProvider.getUserAccount(token);
-
-        return userRepository.findByUserAccount(userAccount)
-                .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
-    }
 }
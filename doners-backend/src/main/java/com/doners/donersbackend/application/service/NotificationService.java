@@ -1,12 +1,21 @@
 package com.doners.donersbackend.application.service;
 
+import com.doners.donersbackend.application.dto.request.donation.NotificationBulkReadPatchDTO;
 import com.doners.donersbackend.application.dto.request.donation.NotificationReadPatchDTO;
 import com.doners.donersbackend.application.dto.response.donation.NotificationGetListWrapperResponseDTO;
+import com.doners.donersbackend.domain.dao.user.User;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface NotificationService {
 
-    NotificationGetListWrapperResponseDTO getNotification(String accessToken);
+    NotificationGetListWrapperResponseDTO getNotification(User user, int page);
 
-    void readNotification(String accessToken, NotificationReadPatchDTO notificationReadPatchDTO);
+    SseEmitter subscribe(User user, String lastEventId);
+
+    void readNotification(User user, NotificationReadPatchDTO notificationReadPatchDTO);
+
+    int readNotificationList(User user, NotificationBulkReadPatchDTO notificationBulkReadPatchDTO);
+
+    long getUnreadCount(User user);
 
 }
@@ -1,66 +1,54 @@
 package com.doners.donersbackend.application.service;
 
+import com.doners.donersbackend.application.dto.request.donation.NotificationBulkReadPatchDTO;
 import com.doners.donersbackend.application.dto.request.donation.NotificationReadPatchDTO;
 import com.doners.donersbackend.application.dto.response.donation.NotificationGetListResponseDTO;
 import com.doners.donersbackend.application.dto.response.donation.NotificationGetListWrapperResponseDTO;
-import com.doners.donersbackend.domain.dao.donation.Donation;
+import com.doners.donersbackend.application.notification.NotificationPushService;
 import com.doners.donersbackend.domain.dao.donation.Notification;
 import com.doners.donersbackend.domain.dao.user.User;
-import com.doners.donersbackend.domain.enums.ApprovalStatusCode;
-import com.doners.donersbackend.domain.enums.NotificationCode;
 import com.doners.donersbackend.domain.repository.UserRepository;
-import com.doners.donersbackend.domain.repository.donation.DonationRepository;
 import com.doners.donersbackend.domain.repository.donation.NotificationRepository;
-import com.doners.donersbackend.security.util.JwtAuthenticationProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
-    private final NotificationRepository notificationRepository;
-
-    private final DonationRepository donationRepository;
+    private static final int PAGE_SIZE = 20;
 
-    private final UserRepository userRepository;
+    // 재연결 시 다시 보내는 최대 알림 수
+    private static final int MISSED_SIZE = 100;
 
-    private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final NotificationRepository notificationRepository;
 
-    @Override
-    public NotificationGetListWrapperResponseDTO getNotification(String accessToken) {
+    private final UserRepository userRepository;
 
-        String token = accessToken.split(" ")[1];
+    private final NotificationPushService notificationPushService;
 
-        String userAccount = jwtAuthenticationProvider.getUserAccount(token);
+    private final PlatformTransactionManager transactionManager;
 
-        User user = userRepository.findByUserAccountAndUserIsDeleted(userAccount, false)
-                .orElseThrow(() -> new IllegalArgumentException("해당 계정을 찾을 수 없습니다."));
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationGetListWrapperResponseDTO getNotification(User user, int page) {
 
-        // 회원의 기부글 리스트 최신순
-        List<Donation> donationList = donationRepository.findByUserOrderByEndDateDesc(user)
-                .orElseThrow(() -> new IllegalArgumentException("기부글 목록을 찾을 수 없습니다."));
+        // 승인 / 거절 / 마감 시점에 만들어진 알림 최신 순
+        List<Notification> notificationList = notificationRepository.findByUserId(user.getId(), PageRequest.of(page - 1, PAGE_SIZE));
 
         List<NotificationGetListResponseDTO> notificationGetListResponseDTOList = new ArrayList<>();
 
-        donationList.forEach(donation -> {
-            // 마감 시간 지났으면
-            if (donation.isApproved() && donation.getEndDate() != null && LocalDate.now().isAfter(donation.getEndDate())) {
-                notificationGetListResponseDTOList.add(createNotification(donation, "기부글이 마감되었습니다.", NotificationCode.PROGRESS));
-            }
-
-            // 승인된 상태라면
-            if (donation.getApprovalStatusCode().equals(ApprovalStatusCode.APPROVAL)) {
-                notificationGetListResponseDTOList.add(createNotification(donation, "기부글 신청이 승인되었습니다.", NotificationCode.APPROVAL));
-            // 거절된 상태라면
-            } else if (donation.getApprovalStatusCode().compareTo(ApprovalStatusCode.APPROVAL) > 0) {
-                notificationGetListResponseDTOList.add(createNotification(donation, "기부글 신청이 반려되었습니다.", NotificationCode.APPROVAL));
-            }
-        });
+        notificationList.forEach(notification -> notificationGetListResponseDTOList.add(createNotificationDTO(notification)));
 
         return NotificationGetListWrapperResponseDTO.builder()
                 .notificationGetListResponseDTOList(notificationGetListResponseDTOList)
@@ -68,38 +56,85 @@ public class NotificationServiceImpl implements NotificationService {
 
     }
 
+    // 실시간 알림 연결 (Last-Event-ID 가 있으면 그 이후 알림부터 다시 전송)
+    // 연결을 먼저 등록한 뒤 놓친 알림을 조회하므로 조회와 등록 사이에 만들어진 알림도 빠지지 않음
     @Override
-    public void readNotification(String accessToken, NotificationReadPatchDTO notificationReadPatchDTO) {
+    public SseEmitter subscribe(User user, String lastEventId) {
 
-        Notification notification = notificationRepository.findById(notificationReadPatchDTO.getNotificationId())
-                .orElseThrow(() -> new IllegalArgumentException("해당 알림을 찾을 수 없습니다."));
+        return notificationPushService.subscribe(user.getId(), () -> lastEventId == null ? Collections.<NotificationGetListResponseDTO>emptyList() : findMissedList(user.getId(), lastEventId));
 
-        notification.changeIsRead();
+    }
 
-        notificationRepository.save(notification);
+    // 연결 요청은 open-in-view 에서 제외되므로 조회하는 동안만 트랜잭션 유지
+    private List<NotificationGetListResponseDTO> findMissedList(String userId, String lastEventId) {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return transactionTemplate.execute(status -> {
+            List<NotificationGetListResponseDTO> missedList = new ArrayList<>();
+
+            notificationRepository.findSequenceByIdAndUserId(lastEventId, userId).ifPresent(sequence ->
+                    notificationRepository.findByUserIdAndSequenceAfter(userId, sequence, PageRequest.of(0, MISSED_SIZE))
+                            .forEach(notification -> missedList.add(createNotificationDTO(notification))));
+
+            return missedList;
+        });
 
     }
 
-    public NotificationGetListResponseDTO createNotification(Donation donation, String description, NotificationCode notificationCode) {
+    @Override
+    @Transactional
+    public void readNotification(User user, NotificationReadPatchDTO notificationReadPatchDTO) {
+
+        notificationRepository.findByIdAndUser_Id(notificationReadPatchDTO.getNotificationId(), user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 알림을 찾을 수 없습니다."));
 
-        // 알림 존재 여부 확인
-        Notification notification = notificationRepository.findByDonationAndNotificationCode(donation, notificationCode).orElse(null);
+        read(user, notificationRepository.readByIdIn(user.getId(), Collections.singletonList(notificationReadPatchDTO.getNotificationId())));
 
-        // 기존 알림이 없다면
-        if (notification == null) {
-            notification = Notification.builder()
-                    .description(description)
-                    .isRead(false)
-                    .notificationCode(notificationCode)
-                    .donation(donation)
-                    .build();
+    }
 
-            notificationRepository.save(notification);
+    // 여러 알림 / 전체 알림 읽음 처리 : UPDATE 한 번 + 읽지 않은 알림 수 감소
+    @Override
+    @Transactional
+    public int readNotificationList(User user, NotificationBulkReadPatchDTO notificationBulkReadPatchDTO) {
+
+        int count;
+
+        if (notificationBulkReadPatchDTO.isAll()) {
+            count = notificationRepository.readAllByUserId(user.getId());
+        } else if (notificationBulkReadPatchDTO.getNotificationIdList() == null || notificationBulkReadPatchDTO.getNotificationIdList().isEmpty()) {
+            count = 0;
+        } else {
+            count = notificationRepository.readByIdIn(user.getId(), new HashSet<>(notificationBulkReadPatchDTO.getNotificationIdList()));
         }
 
+        read(user, count);
+
+        return count;
+
+    }
+
+    // 읽지 않은 알림 수 (알림 목록을 읽지 않고 회원 컬럼만 조회)
+    @Override
+    public long getUnreadCount(User user) {
+
+        return userRepository.findUnreadNotificationCountById(user.getId()).orElse(0L);
+
+    }
+
+    private void read(User user, int count) {
+
+        if (count > 0) userRepository.decreaseUnreadNotificationCount(user.getId(), count);
+
+    }
+
+
+    public NotificationGetListResponseDTO createNotificationDTO(Notification notification) {
+
         return NotificationGetListResponseDTO.builder()
                 .notificationId(notification.getId())
-                .donationId(donation.getId())
+                .donationId(notification.getDonation().getId())
                 .description(notification.getDescription())
                 .createTime(notification.getCreateTime())
                 .read(notification.isRead())
@@ -2,6 +2,7 @@ package com.doners.donersbackend.application.service;
 
 import com.doners.donersbackend.application.dto.request.user.UserRegisterRequestDTO;
 import com.doners.donersbackend.application.dto.response.user.*;
+import com.doners.donersbackend.domain.dao.user.User;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface UserService {
@@ -11,26 +12,26 @@ public interface UserService {
 
     UserLoginResponseDTO getUserLoginResponseDTO(String userAccount);
 
-    UserAccountResponseDTO getUserAccountResponseDTO(String accessToken, String userNickname);
+    UserAccountResponseDTO getUserAccountResponseDTO(User requestUser, String userNickname);
 
-    UserNameResponseDTO getUserNameResponseDTO(String accessToken, String userNickname);
+    UserNameResponseDTO getUserNameResponseDTO(User requestUser, String userNickname);
 
     // 닉네임 변경
-    Integer changeUserNickname(String accessToken, String userNickname);
+    Integer changeUserNickname(User requestUser, String userNickname);
 
     // 닉네임 중복 체크
     // 중복이면 409(불가) , 아니면 200(가능)
     Integer checkNickname(String userNickname);
 
-    void uploadProfileImage(String accessToken, MultipartFile multipartFile);
+    void uploadProfileImage(User user, MultipartFile multipartFile);
 
-    void deleteUser(String accessToken);
+    void deleteUser(User requestUser);
 
-    String getProfileImage(String accessToken, String userNickname);
+    String getProfileImage(User requestUser, String userNickname);
 
-    UserMyPageCommunityHistoryWrapperResponseDTO getCommunityHistoryList(String accessToken);
+    UserMyPageCommunityHistoryWrapperResponseDTO getCommunityHistoryList(User user);
 
-    UserMyPageEpilogueHistoryWrapperResponseDTO getEpilogueHistoryList(String accessToken);
+    UserMyPageEpilogueHistoryWrapperResponseDTO getEpilogueHistoryList(User user);
 
-    UserMyPageDonationHistoryWrapperResponseDTO getDonationHistoryList(String accessToken);
+    UserMyPageDonationHistoryWrapperResponseDTO getDonationHistoryList(User user);
 }
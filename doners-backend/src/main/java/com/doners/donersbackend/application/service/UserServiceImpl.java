@@ -1,21 +1,26 @@
 package com.doners.donersbackend.application.service;
 
+import com.doners.donersbackend.application.cache.UserCache;
 import com.doners.donersbackend.application.dto.request.user.UserRegisterRequestDTO;
 import com.doners.donersbackend.application.dto.response.user.*;
+import com.doners.donersbackend.application.event.UserChangedEvent;
+import com.doners.donersbackend.application.upload.UploadPipeline;
 import com.doners.donersbackend.domain.dao.community.Community;
 import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.email.EmailConfirmation;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
 import com.doners.donersbackend.domain.dao.image.Image;
 import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.enums.ImageStatusCode;
 import com.doners.donersbackend.domain.repository.CommunityRepository;
 import com.doners.donersbackend.domain.repository.EmailConfirmationRepository;
 import com.doners.donersbackend.domain.repository.ImageRepository;
 import com.doners.donersbackend.domain.repository.UserRepository;
 import com.doners.donersbackend.domain.repository.donation.DonationRepository;
 import com.doners.donersbackend.domain.repository.epilogue.EpilogueRepository;
-import com.doners.donersbackend.security.util.JwtAuthenticationProvider;
+import com.doners.donersbackend.util.image.ImageVariantUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -41,7 +46,11 @@ public class UserServiceImpl implements UserService {
 
     private final AwsS3Service awsS3Service;
 
-    private final JwtAuthenticationProvider jwtAuthenticationProvider;
+    private final UploadPipeline uploadPipeline;
+
+    private final UserCache userCache;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     // 회원가입 : 필수 회원 정보 입력 - 이름, 이메일, 닉네임
     @Override
@@ -72,13 +81,17 @@ public class UserServiceImpl implements UserService {
 
         userRepository.save(user);
 
+        // 탈퇴 후 같은 계정 / 닉네임으로 다시 가입한 경우 이전 회원 정보가 남지 않도록 무효화
+        userCache.invalidateAccount(userAccount);
+        userCache.invalidateNickname(user.getUserNickname());
+
         return 201;
 
     }
 
     @Override
     public UserLoginResponseDTO getUserLoginResponseDTO(String userAccount) {
-        User user = userRepository.findByUserAccountAndUserIsDeleted(userAccount, false)
+        User user = userCache.getByAccount(userAccount, () -> userRepository.findByUserAccountAndUserIsDeleted(userAccount, false))
                 .orElseThrow(() -> new IllegalArgumentException("해당 메타마스크 계정 주소로 가입된 정보가 없습니다."));
 
         try {
@@ -92,10 +105,8 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public UserAccountResponseDTO getUserAccountResponseDTO(String accessToken, String userNickname) {
-        User requestUser = getUserFromAccessToken(accessToken);
-
-        User user = userRepository.findByUserNicknameAndUserIsDeleted(userNickname, false)
+    public UserAccountResponseDTO getUserAccountResponseDTO(User requestUser, String userNickname) {
+        User user = userCache.getByNickname(userNickname, () -> userRepository.findByUserNicknameAndUserIsDeleted(userNickname, false))
                 .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
 
         return UserAccountResponseDTO.builder()
@@ -103,10 +114,8 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public UserNameResponseDTO getUserNameResponseDTO(String accessToken, String userNickname) {
-        User requestUser = getUserFromAccessToken(accessToken);
-
-        User user = userRepository.findByUserNicknameAndUserIsDeleted(userNickname, false)
+    public UserNameResponseDTO getUserNameResponseDTO(User requestUser, String userNickname) {
+        User user = userCache.getByNickname(userNickname, () -> userRepository.findByUserNicknameAndUserIsDeleted(userNickname, false))
                 .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
 
         return UserNameResponseDTO.builder()
@@ -115,8 +124,10 @@ public class UserServiceImpl implements UserService {
 
     // 닉네임 변경
     @Override
-    public Integer changeUserNickname(String accessToken, String userNickname) {
-        User user = getUserFromAccessToken(accessToken);
+    public Integer changeUserNickname(User requestUser, String userNickname) {
+        // 인증 시 받은 회원은 캐시와 공유되므로 다시 조회해서 변경
+        User user = userRepository.findById(requestUser.getId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
 
         try {
             user.changeNickname(userNickname);
@@ -126,6 +137,8 @@ public class UserServiceImpl implements UserService {
 
         userRepository.save(user);
 
+        applicationEventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+
         return 200;
     }
 
@@ -140,12 +153,16 @@ public class UserServiceImpl implements UserService {
 
     @Transactional
     @Override
-    public void deleteUser(String accessToken) {
-        User user = getUserFromAccessToken(accessToken);
+    public void deleteUser(User requestUser) {
+        // 인증 시 받은 회원은 캐시와 공유되므로 다시 조회해서 변경
+        User user = userRepository.findById(requestUser.getId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
 
         user.deleteUser();
         userRepository.save(user);
 
+        applicationEventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+
         EmailConfirmation emailConfirmation = emailConfirmationRepository.findByEmailAddress(user.getUserEmail())
                 .orElseThrow(() -> new IllegalArgumentException("해당 이메일 인증 정보를 찾을 수 없습니다."));
 
@@ -158,9 +175,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public void uploadProfileImage(String accessToken, MultipartFile multipartFile) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public void uploadProfileImage(User user, MultipartFile multipartFile) {
         String fileName = awsS3Service.uploadImage(multipartFile);
 
         Image image = imageRepository.findByUserAndImageIsResized(user, false).orElse(null);
@@ -176,40 +191,45 @@ public class UserServiceImpl implements UserService {
 
         imageRepository.save(image);
 
-        String thumbnailFileName = awsS3Service.uploadThumbnailImage(fileName, multipartFile);
-
+        // 썸네일은 작업 스레드에서 생성 (생성되기 전까지는 원본 사진을 가리킴)
         Image thumbnailImage = imageRepository.findByUserAndImageIsResized(user, true).orElse(null);
 
         if (thumbnailImage == null) {
             thumbnailImage = Image.builder()
                     .imageOriginFileName(multipartFile.getOriginalFilename())
-                    .imageNewFileName(thumbnailFileName)
+                    .imageNewFileName(fileName)
                     .imageIsResized(true)
+                    .imageStatusCode(ImageStatusCode.PENDING)
                     .user(user).build();
         } else {
-            thumbnailImage.changeImage(multipartFile.getOriginalFilename(), thumbnailFileName);
+            thumbnailImage.changePendingThumbnailImage(multipartFile.getOriginalFilename(), fileName);
         }
 
-        imageRepository.save(thumbnailImage);
+        thumbnailImage = imageRepository.save(thumbnailImage);
+
+        uploadPipeline.stageThumbnail(multipartFile, thumbnailImage, fileName);
 
     }
 
     @Override
-    public String getProfileImage(String accessToken, String userNickname) {
-        User reqeustUser = getUserFromAccessToken(accessToken);
-
-        User user = userRepository.findByUserNicknameAndUserIsDeleted(userNickname, false)
+    public String getProfileImage(User requestUser, String userNickname) {
+        User user = userCache.getByNickname(userNickname, () -> userRepository.findByUserNicknameAndUserIsDeleted(userNickname, false))
                 .orElseThrow(() -> new IllegalArgumentException("해당 닉네임을 가진 유저 정보가 존재하지 않습니다."));
 
+        // 작은 썸네일이 있으면 사용, 없으면 (생성 전 / 이전 사진) 원본
+        Image thumbnailImage = imageRepository.findByUserAndImageIsResized(user, true).orElse(null);
+
+        if (thumbnailImage != null && thumbnailImage.getImageVariants() != null) {
+            return "https://donersa404.s3.ap-northeast-2.amazonaws.com/" + thumbnailImage.getVariantFileName(ImageVariantUtils.AVATAR_SIZE);
+        }
+
         Image profileImage = imageRepository.findByUserAndImageIsResized(user, false).orElse(null);
 
         return profileImage == null ? "" : "https://donersa404.s3.ap-northeast-2.amazonaws.com/" + profileImage.getImageNewFileName();
     }
 
     @Override
-    public UserMyPageCommunityHistoryWrapperResponseDTO getCommunityHistoryList(String accessToken) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public UserMyPageCommunityHistoryWrapperResponseDTO getCommunityHistoryList(User user) {
         List<Community> communityList = communityRepository
                 .findByUserAndCommunityIsDeletedOrderByCommunityCreateTimeDesc(user, false)
                 .orElseThrow(() -> new IllegalArgumentException("작성한 커뮤니티 글이 존재하지 않습니다."));
@@ -234,9 +254,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public UserMyPageEpilogueHistoryWrapperResponseDTO getEpilogueHistoryList(String accessToken) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public UserMyPageEpilogueHistoryWrapperResponseDTO getEpilogueHistoryList(User user) {
         List<Epilogue> epilogueList = epilogueRepository
                 .findByUserAndEpilogueIsDeletedOrderByEpilogueCreateTimeDesc(user, false)
                 .orElseThrow(() -> new IllegalArgumentException("작성한 감사 글이 존재하지 않습니다."));
@@ -261,9 +279,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public UserMyPageDonationHistoryWrapperResponseDTO getDonationHistoryList(String accessToken) {
-        User user = getUserFromAccessToken(accessToken);
-
+    public UserMyPageDonationHistoryWrapperResponseDTO getDonationHistoryList(User user) {
         List<Donation> donationList = donationRepository
                 .findByUserAndIsDeletedOrderByEndDateDesc(user, false)
                 .orElseThrow(() -> new IllegalArgumentException("기부 신청 내역이 존재하지 않습니다."));
@@ -295,11 +311,4 @@ public class UserServiceImpl implements UserService {
                 .userMyPageDonationHistoryResponseDTOList(list).build();
     }
 
-    public User getUserFromAccessToken(String accessToken) {
-        String token = accessToken.split(" ")[1];
-        String userAccount = jwtAuthenticationProvider.getUserAccount(token);
-
-        return userRepository.findByUserAccount(userAccount)
-                .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
-    }
 }
@@ -0,0 +1,350 @@
+package com.doners.donersbackend.application.upload;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import com.doners.donersbackend.application.service.AwsS3Service;
+import com.doners.donersbackend.config.UploadProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 스트리밍 업로드 : multipart 요청 본문을 순서대로 읽으면서 파일 파트를 S3 multipart upload 로 바로 전송
+// 임시 파일 / 파일 전체 버퍼링 없이 파트 크기 버퍼만 사용 (요청당 최대 (동시 파트 수 + 1)개, 동시 요청 수도 제한)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingUploader {
+
+    // S3 multipart upload 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    private final AmazonS3Client amazonS3Client;
+
+    private final AwsS3Service awsS3Service;
+
+    private final UploadProperties uploadProperties;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+
+        // 요청 수 * 파트 수 이상 동시에 전송하지 않으므로 큐에서 오래 기다리는 작업은 없음
+        int poolSize = uploadProperties.getStreamingMaxConcurrent() * uploadProperties.getStreamingParallelParts();
+
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.setThreadNamePrefix("s3-part-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        permits = new Semaphore(uploadProperties.getStreamingMaxConcurrent());
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        executor.shutdown();
+
+    }
+
+    // fieldName 으로 들어온 파일을 순서대로 업로드하고 업로드한 파일 목록 반환 (다른 파트는 읽고 버림)
+    // 동시 요청 수를 넘으면 RejectedExecutionException
+    public List<UploadedFile> upload(HttpServletRequest request, String fieldName) throws IOException, FileUploadException {
+
+        if (!ServletFileUpload.isMultipartContent(request)) throw new FileUploadException("multipart 요청이 아닙니다.");
+
+        if (!permits.tryAcquire()) throw new RejectedExecutionException("동시에 처리할 수 있는 업로드 요청 수를 초과했습니다.");
+
+        List<UploadedFile> uploadedFiles = new ArrayList<>();
+        boolean completed = false;
+
+        try {
+            ServletFileUpload servletFileUpload = new ServletFileUpload();
+            servletFileUpload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+            servletFileUpload.setFileSizeMax(uploadProperties.getStreamingMaxFileSize().toBytes());
+            servletFileUpload.setSizeMax(uploadProperties.getStreamingMaxRequestSize().toBytes());
+
+            PartBuffers buffers = new PartBuffers();
+
+            FileItemIterator iterator = servletFileUpload.getItemIterator(request);
+
+            while (iterator.hasNext()) {
+                FileItemStream item = iterator.next();
+
+                if (item.isFormField() || !fieldName.equals(item.getFieldName())) continue;
+
+                String originalFileName = FilenameUtils.getName(item.getName());
+
+                if (originalFileName == null || originalFileName.isEmpty()) continue;
+
+                if (uploadedFiles.size() >= uploadProperties.getStreamingMaxFiles()) {
+                    throw new FileUploadException(String.format("파일은 최대 %d개까지 업로드할 수 있습니다.", uploadProperties.getStreamingMaxFiles()));
+                }
+
+                String fileName = awsS3Service.createFileName(originalFileName);
+
+                try (InputStream inputStream = item.openStream()) {
+                    long size = upload(fileName, inputStream, item.getContentType(), buffers);
+
+                    uploadedFiles.add(new UploadedFile(originalFileName, fileName, size));
+                }
+            }
+
+            completed = true;
+
+            return uploadedFiles;
+        } catch (FileUploadBase.FileUploadIOException e) {
+            // 크기 제한 초과는 IOException 으로 감싸져서 전달됨
+            throw (FileUploadException) e.getCause();
+        } finally {
+            // 중간에 실패하면 이 요청에서 이미 업로드한 파일 삭제 (저장되지 않은 공개 파일이 남지 않도록)
+            if (!completed) delete(uploadedFiles);
+
+            permits.release();
+        }
+
+    }
+
+    // 업로드한 파일 삭제 (DB 에 저장하지 못한 경우)
+    public void delete(List<UploadedFile> uploadedFiles) {
+
+        uploadedFiles.forEach(uploadedFile -> {
+            try {
+                amazonS3Client.deleteObject(bucket, uploadedFile.getSavedFileName());
+            } catch (RuntimeException e) {
+                log.warn("업로드한 파일 삭제에 실패했습니다. (파일 = {})", uploadedFile.getSavedFileName(), e);
+            }
+        });
+
+    }
+
+    // 첫 파트에서 끝나면 한 번에 업로드, 아니면 multipart upload 로 파트를 병렬 전송
+    private long upload(String fileName, InputStream inputStream, String contentType, PartBuffers buffers) throws IOException {
+
+        int partSize = buffers.partSize;
+
+        byte[] buffer = buffers.take();
+        int length = readFully(inputStream, buffer);
+
+        if (length < partSize) {
+            try {
+                putObject(fileName, buffer, length, contentType);
+            } finally {
+                buffers.release(buffer);
+            }
+
+            return length;
+        }
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+
+        String uploadId = amazonS3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, fileName, objectMetadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+
+        List<Future<PartETag>> parts = new ArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        long total = 0;
+
+        try {
+            while (true) {
+                parts.add(submitPart(fileName, uploadId, parts.size() + 1, buffer, length, buffers, failure));
+                total += length;
+
+                if (length < partSize) break;
+
+                // 버퍼가 모두 전송 중이면 파트 하나가 끝날 때까지 대기 (읽는 속도를 S3 전송 속도에 맞춤)
+                buffer = buffers.take();
+
+                if (failure.get() != null) {
+                    buffers.release(buffer);
+                    break;
+                }
+
+                length = readFully(inputStream, buffer);
+
+                if (length == 0) {
+                    buffers.release(buffer);
+                    break;
+                }
+            }
+
+            List<PartETag> partETags = new ArrayList<>();
+
+            for (Future<PartETag> part : parts) partETags.add(part.get());
+
+            amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, fileName, uploadId, partETags));
+
+            return total;
+        } catch (IOException | RuntimeException | InterruptedException | ExecutionException e) {
+            parts.forEach(part -> part.cancel(true));
+            abort(fileName, uploadId);
+
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+
+            // 요청 본문을 읽다가 실패한 경우 (크기 초과, 연결 끊김)
+            if (e instanceof IOException) throw (IOException) e;
+
+            log.warn("파일 업로드에 실패했습니다. (파일 = {})", fileName, e);
+
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format("파일(%s) 업로드에 실패했습니다.", fileName));
+        }
+
+    }
+
+    private Future<PartETag> submitPart(String fileName, String uploadId, int partNumber, byte[] buffer, int length,
+                                        PartBuffers buffers, AtomicReference<Exception> failure) {
+
+        try {
+            return executor.submit(() -> {
+                try {
+                    UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                            .withBucketName(bucket)
+                            .withKey(fileName)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNumber)
+                            .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                            .withPartSize(length);
+
+                    return amazonS3Client.uploadPart(uploadPartRequest).getPartETag();
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                    throw e;
+                } finally {
+                    buffers.release(buffer);
+                }
+            });
+        } catch (RuntimeException e) {
+            buffers.release(buffer);
+            throw e;
+        }
+
+    }
+
+    private void putObject(String fileName, byte[] buffer, int length, String contentType) {
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(length);
+        objectMetadata.setContentType(contentType);
+
+        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(buffer, 0, length), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+
+    }
+
+    private void abort(String fileName, String uploadId) {
+
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, fileName, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("multipart upload 취소에 실패했습니다. (파일 = {}, uploadId = {})", fileName, uploadId, e);
+        }
+
+    }
+
+    // 버퍼를 가득 채우거나 스트림이 끝날 때까지 읽음
+    private static int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+
+        int length = 0;
+
+        while (length < buffer.length) {
+            int read = inputStream.read(buffer, length, buffer.length - length);
+
+            if (read < 0) break;
+
+            length += read;
+        }
+
+        return length;
+
+    }
+
+    // 요청 하나가 사용하는 파트 버퍼 : 필요할 때 만들고 (동시 파트 수 + 1)개까지만 만들어서 재사용
+    private class PartBuffers {
+
+        private final int partSize = (int) Math.max(uploadProperties.getStreamingPartSize().toBytes(), MIN_PART_SIZE);
+
+        private final int maxBuffers = uploadProperties.getStreamingParallelParts() + 1;
+
+        private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(maxBuffers);
+
+        private int allocated;
+
+        // 읽는 스레드에서만 호출
+        private byte[] take() throws IOException {
+
+            byte[] buffer = free.poll();
+
+            if (buffer != null) return buffer;
+
+            if (allocated < maxBuffers) {
+                allocated++;
+
+                return new byte[partSize];
+            }
+
+            try {
+                return free.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IOException("업로드가 중단되었습니다.", e);
+            }
+
+        }
+
+        private void release(byte[] buffer) {
+
+            free.offer(buffer);
+
+        }
+
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class UploadedFile {
+
+        private final String originalFileName;
+
+        private final String savedFileName;
+
+        private final long size;
+
+    }
+
+}
@@ -0,0 +1,389 @@
+package com.doners.donersbackend.application.upload;
+
+import com.doners.donersbackend.application.event.DonationChangedEvent;
+import com.doners.donersbackend.application.service.AwsS3Service;
+import com.doners.donersbackend.config.UploadProperties;
+import com.doners.donersbackend.domain.dao.donation.Donation;
+import com.doners.donersbackend.domain.dao.image.Image;
+import com.doners.donersbackend.domain.dao.upload.UploadTask;
+import com.doners.donersbackend.domain.enums.ImageStatusCode;
+import com.doners.donersbackend.domain.enums.UploadStatusCode;
+import com.doners.donersbackend.domain.enums.UploadTypeCode;
+import com.doners.donersbackend.domain.repository.FileRepository;
+import com.doners.donersbackend.domain.repository.ImageRepository;
+import com.doners.donersbackend.domain.repository.UploadTaskRepository;
+import com.doners.donersbackend.util.image.ImageVariantUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+// 파일 업로드 / 썸네일 생성 파이프라인
+// 요청에서는 파일을 로컬에 임시 저장하고 outbox(UploadTask)만 기록, 커밋 이후 스레드 풀에서 병렬로 S3 에 업로드
+// 썸네일 생성은 CPU 를 사용하므로 별도의 스레드 풀에서 처리 (요청 시간에 포함되지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadPipeline {
+
+    private static final int POLL_SIZE = 100;
+
+    // 재시도 간격 최대값 (초)
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final UploadTaskRepository uploadTaskRepository;
+
+    private final ImageRepository imageRepository;
+
+    private final FileRepository fileRepository;
+
+    private final AwsS3Service awsS3Service;
+
+    private final UploadProperties uploadProperties;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    private final ThreadPoolTaskExecutor thumbnailExecutor = new ThreadPoolTaskExecutor();
+
+    // 이 서버에서 처리 중이거나 큐에 들어간 작업 ID
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() throws IOException {
+
+        Files.createDirectories(stagingDir());
+
+        executor.setCorePoolSize(uploadProperties.getPoolSize());
+        executor.setMaxPoolSize(uploadProperties.getPoolSize());
+        executor.setQueueCapacity(uploadProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        thumbnailExecutor.setCorePoolSize(uploadProperties.getThumbnailPoolSize());
+        thumbnailExecutor.setMaxPoolSize(uploadProperties.getThumbnailPoolSize());
+        thumbnailExecutor.setQueueCapacity(uploadProperties.getThumbnailQueueCapacity());
+        thumbnailExecutor.setThreadNamePrefix("thumbnail-");
+        thumbnailExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        thumbnailExecutor.setAwaitTerminationSeconds(30);
+        thumbnailExecutor.initialize();
+
+    }
+
+    // 임시 디렉터리는 재부팅 / 정리 작업으로 비워질 수 있어서 대기 중인 작업의 파일이 사라지므로 허용하지 않음
+    private Path stagingDir() {
+
+        String stagingDir = uploadProperties.getStagingDir();
+
+        if (stagingDir == null || stagingDir.trim().isEmpty())
+            throw new IllegalStateException("doners.upload.staging-dir 를 설정해야 합니다.");
+
+        Path path = Paths.get(stagingDir).toAbsolutePath().normalize();
+
+        if (path.startsWith(Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize()))
+            throw new IllegalStateException(String.format("doners.upload.staging-dir 는 임시 디렉터리(%s)가 아닌 경로여야 합니다.", path));
+
+        return path;
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        executor.shutdown();
+        thumbnailExecutor.shutdown();
+
+    }
+
+    // 파일을 임시 저장하고 업로드 작업 등록 : S3 파일명을 미리 정해서 반환
+    public String stage(Donation donation, MultipartFile multipartFile, UploadTypeCode uploadTypeCode) {
+
+        String fileName = awsS3Service.createFileName(multipartFile.getOriginalFilename());
+        Path stagedPath = transfer(multipartFile, fileName);
+
+        register(donation, null, uploadTypeCode, fileName, multipartFile.getContentType(), stagedPath);
+
+        return fileName;
+
+    }
+
+    // 이미 임시 저장된 대표 사진으로 썸네일 작업 등록
+    public void stageThumbnail(Donation donation, Image thumbnailImage, String fileName) {
+
+        register(donation, thumbnailImage.getId(), UploadTypeCode.THUMBNAIL, thumbnailFileName(fileName), ImageVariantUtils.CONTENT_TYPE, Paths.get(uploadProperties.getStagingDir(), fileName).toAbsolutePath());
+
+    }
+
+    // S3 에 이미 올린 원본 사진을 임시 저장하고 썸네일 작업 등록 (프로필 / 감사 글 사진)
+    public void stageThumbnail(MultipartFile multipartFile, Image thumbnailImage, String fileName) {
+
+        Path stagedPath = transfer(multipartFile, fileName);
+
+        register(null, thumbnailImage.getId(), UploadTypeCode.THUMBNAIL, thumbnailFileName(fileName), ImageVariantUtils.CONTENT_TYPE, stagedPath);
+
+    }
+
+    // 원본 파일명으로 목록용 기본 크기 썸네일 파일명 생성
+    private String thumbnailFileName(String fileName) {
+
+        return ImageVariantUtils.variantFileName(fileName, uploadProperties.getThumbnailDefaultSize());
+
+    }
+
+    // 설정된 크기 + 기본 크기
+    private List<Integer> thumbnailSizes() {
+
+        Set<Integer> sizes = new TreeSet<>(uploadProperties.getThumbnailSizes());
+        sizes.add(uploadProperties.getThumbnailDefaultSize());
+
+        return new ArrayList<>(sizes);
+
+    }
+
+    // 서버 시작 시 중단된 작업 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        uploadTaskRepository.changeStaleStatus(UploadStatusCode.IN_PROGRESS, UploadStatusCode.PENDING, now, now);
+
+        poll();
+
+    }
+
+    // 대기 중인 작업 중 재시도 시간이 된 작업 처리
+    @Scheduled(fixedDelayString = "${doners.upload.poll-interval:10000}")
+    public void poll() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        uploadTaskRepository.changeStaleStatus(UploadStatusCode.IN_PROGRESS, UploadStatusCode.PENDING, now.minusMinutes(uploadProperties.getStaleMinutes()), now);
+
+        uploadTaskRepository.findByUploadStatusCodeAndNextAttemptTimeLessThanEqualOrderByNextAttemptTime(UploadStatusCode.PENDING, now, PageRequest.of(0, POLL_SIZE))
+                .forEach(uploadTask -> dispatch(uploadTask.getId(), uploadTask.getUploadTypeCode()));
+
+    }
+
+    private Path transfer(MultipartFile multipartFile, String fileName) {
+
+        Path stagedPath = Paths.get(uploadProperties.getStagingDir(), fileName).toAbsolutePath();
+
+        try {
+            multipartFile.transferTo(stagedPath.toFile());
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, String.format("파일(%s) 저장에 실패했습니다.", multipartFile.getOriginalFilename()));
+        }
+
+        return stagedPath;
+
+    }
+
+    private void register(Donation donation, String imageId, UploadTypeCode uploadTypeCode, String fileName, String contentType, Path stagedPath) {
+
+        UploadTask uploadTask = uploadTaskRepository.save(UploadTask.builder()
+                .uploadTypeCode(uploadTypeCode)
+                .uploadStatusCode(UploadStatusCode.PENDING)
+                .savedFileName(fileName)
+                .contentType(contentType)
+                .stagedPath(stagedPath.toString())
+                .nextAttemptTime(LocalDateTime.now())
+                .updateTime(LocalDateTime.now())
+                .donation(donation)
+                .imageId(imageId)
+                .build());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(uploadTask.getId(), uploadTypeCode);
+            return;
+        }
+
+        // 커밋되면 업로드, 롤백되면 임시 파일 삭제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) dispatch(uploadTask.getId(), uploadTypeCode);
+                else deleteQuietly(stagedPath);
+            }
+        });
+
+    }
+
+    private void dispatch(String uploadTaskId, UploadTypeCode uploadTypeCode) {
+
+        if (!inFlight.add(uploadTaskId)) return;
+
+        try {
+            (uploadTypeCode == UploadTypeCode.THUMBNAIL ? thumbnailExecutor : executor).execute(() -> run(uploadTaskId));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 찬 경우 다음 poll 에서 다시 시도
+            inFlight.remove(uploadTaskId);
+        }
+
+    }
+
+    private void run(String uploadTaskId) {
+
+        try {
+            // 다른 스레드 / 서버에서 이미 처리 중이면 건너뜀
+            if (uploadTaskRepository.changeStatus(uploadTaskId, UploadStatusCode.PENDING, UploadStatusCode.IN_PROGRESS, LocalDateTime.now()) == 0) return;
+
+            UploadTask uploadTask = uploadTaskRepository.findById(uploadTaskId).orElse(null);
+
+            if (uploadTask == null) return;
+
+            try {
+                Map<Integer, String> variants = upload(uploadTask);
+
+                uploadTask.complete();
+                uploadTaskRepository.save(uploadTask);
+
+                if (variants != null) completeThumbnail(uploadTask, variants);
+
+                cleanUp(uploadTask);
+            } catch (RuntimeException e) {
+                uploadTask.fail(e.getMessage(), uploadProperties.getMaxRetries(), LocalDateTime.now().plusSeconds(backoff(uploadTask.getRetries())));
+                uploadTaskRepository.save(uploadTask);
+
+                if (uploadTask.getUploadStatusCode() == UploadStatusCode.FAILED) failUpload(uploadTask);
+
+                log.warn("파일 업로드에 실패했습니다. (작업 = {}, 시도 = {})", uploadTaskId, uploadTask.getRetries(), e);
+            }
+        } finally {
+            inFlight.remove(uploadTaskId);
+        }
+
+    }
+
+    // 썸네일 작업이면 크기별 썸네일 파일명 반환
+    private Map<Integer, String> upload(UploadTask uploadTask) {
+
+        Path stagedPath = Paths.get(uploadTask.getStagedPath());
+
+        if (uploadTask.getUploadTypeCode() != UploadTypeCode.THUMBNAIL) {
+            awsS3Service.uploadStagedFile(uploadTask.getSavedFileName(), stagedPath, uploadTask.getContentType());
+            return null;
+        }
+
+        // 사진 ID 가 없는 이전 작업은 기존 형식 그대로 한 장만 생성
+        if (uploadTask.getImageId() == null) {
+            awsS3Service.uploadStagedThumbnailImage(uploadTask.getSavedFileName(), stagedPath);
+            return null;
+        }
+
+        return awsS3Service.uploadStagedThumbnailVariants(originalFileName(uploadTask), stagedPath, thumbnailSizes(), uploadProperties.getThumbnailQuality());
+
+    }
+
+    // 사진이 원본 대신 기본 크기 썸네일을 가리키도록 변경하고 크기별 파일명 저장
+    private void completeThumbnail(UploadTask uploadTask, Map<Integer, String> variants) {
+
+        String thumbnailFileName = variants.get(uploadProperties.getThumbnailDefaultSize());
+
+        int updated = imageRepository.completeThumbnail(uploadTask.getImageId(), originalFileName(uploadTask), thumbnailFileName,
+                ImageVariantUtils.joinVariants(variants), ImageStatusCode.READY);
+
+        if (updated > 0) publishImageChanged(uploadTask.getImageId());
+
+    }
+
+    // 재시도 횟수를 넘겨서 실패 : 원본 사진 / 증빙 자료는 실패로 표시 (승인 불가), 더 이상 시도하지 않으므로 임시 파일 삭제
+    private void failUpload(UploadTask uploadTask) {
+
+        switch (uploadTask.getUploadTypeCode()) {
+            case THUMBNAIL:
+                failThumbnail(uploadTask);
+                break;
+            case IMAGE:
+                imageRepository.changeStatusByFileName(uploadTask.getSavedFileName(), ImageStatusCode.FAILED);
+                break;
+            default:
+                fileRepository.markUploadFailed(uploadTask.getSavedFileName());
+                break;
+        }
+
+        if (uploadTask.getUploadTypeCode() != UploadTypeCode.THUMBNAIL) {
+            uploadTaskRepository.findDonationIdById(uploadTask.getId())
+                    .ifPresent(donationId -> applicationEventPublisher.publishEvent(new DonationChangedEvent(donationId)));
+        }
+
+        cleanUp(uploadTask);
+
+    }
+
+    // 썸네일 생성에 실패하면 원본 사진을 계속 사용
+    private void failThumbnail(UploadTask uploadTask) {
+
+        if (uploadTask.getImageId() == null) return;
+
+        int updated = imageRepository.changeStatus(uploadTask.getImageId(), originalFileName(uploadTask), ImageStatusCode.FAILED);
+
+        if (updated > 0) publishImageChanged(uploadTask.getImageId());
+
+    }
+
+    // 기부글 사진이 바뀌었으면 목록 색인 / 상세 캐시 갱신 (트랜잭션 밖이므로 즉시 처리)
+    private void publishImageChanged(String imageId) {
+
+        imageRepository.findDonationIdById(imageId)
+                .ifPresent(donationId -> applicationEventPublisher.publishEvent(new DonationChangedEvent(donationId)));
+
+    }
+
+    private String originalFileName(UploadTask uploadTask) {
+
+        return Paths.get(uploadTask.getStagedPath()).getFileName().toString();
+
+    }
+
+    // 같은 임시 파일을 쓰는 작업이 모두 끝났으면 삭제
+    private void cleanUp(UploadTask uploadTask) {
+
+        if (uploadTaskRepository.existsByStagedPathAndUploadStatusCodeIn(uploadTask.getStagedPath(), Arrays.asList(UploadStatusCode.PENDING, UploadStatusCode.IN_PROGRESS))) return;
+
+        deleteQuietly(Paths.get(uploadTask.getStagedPath()));
+
+    }
+
+    // 다음 시도까지 대기 시간 : 10초, 20초, 40초, ... (최대 1시간)
+    private long backoff(int retries) {
+
+        return Math.min(MAX_BACKOFF_SECONDS, 10L << Math.min(retries, 20));
+
+    }
+
+    private void deleteQuietly(Path path) {
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제에 실패했습니다. ({})", path, e);
+        }
+
+    }
+
+}
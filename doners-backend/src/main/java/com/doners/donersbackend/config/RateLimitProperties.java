@@ -0,0 +1,52 @@
+package com.doners.donersbackend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix="doners.rate-limit")
+@Component
+@Setter
+@Getter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 버킷 저장소를 나누는 잠금 수
+    private int stripes = 64;
+
+    // 전체 버킷 최대 개수 (넘으면 오래 사용하지 않은 버킷부터 제거)
+    private int maxBuckets = 100000;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class Rule {
+
+        // HTTP 메서드 (비어 있으면 모든 메서드)
+        private String method;
+
+        // Ant 패턴 경로
+        private String pattern;
+
+        // 버킷 크기 (한 번에 허용하는 최대 요청 수)
+        private int capacity;
+
+        // refillPeriod 동안 다시 채워지는 토큰 수
+        private int refillTokens;
+
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        public String getId() {
+            return (method == null || method.isEmpty() ? "*" : method) + " " + pattern;
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.doners.donersbackend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@ConfigurationProperties(prefix="doners.upload")
+@Component
+@Setter
+@Getter
+public class UploadProperties {
+
+    // 업로드 전 파일을 저장하는 경로 (필수, 재시작 후에도 남아 있어야 하므로 임시 디렉터리는 사용할 수 없음)
+    private String stagingDir;
+
+    // 동시에 업로드하는 파일 수
+    private int poolSize = 4;
+
+    private int queueCapacity = 200;
+
+    // 썸네일 생성 스레드 수 (이미지 디코딩 / 리사이즈로 CPU 를 사용하므로 업로드 스레드와 분리)
+    private int thumbnailPoolSize = 2;
+
+    private int thumbnailQueueCapacity = 100;
+
+    // 생성할 썸네일 크기 (px, 긴 변 기준)
+    private List<Integer> thumbnailSizes = new ArrayList<>(Arrays.asList(150, 300, 600));
+
+    // 목록 카드에 사용하는 기본 크기
+    private int thumbnailDefaultSize = 300;
+
+    // JPEG 품질 (0 ~ 1)
+    private float thumbnailQuality = 0.82f;
+
+    private int maxRetries = 5;
+
+    // 스트리밍 업로드 (S3 multipart) 파트 크기 : S3 최소 크기는 5MB (마지막 파트 제외)
+    private DataSize streamingPartSize = DataSize.ofMegabytes(8);
+
+    // 파일 하나를 업로드할 때 동시에 전송하는 파트 수
+    private int streamingParallelParts = 3;
+
+    // 동시에 처리하는 스트리밍 업로드 요청 수 (메모리 사용량 = 요청 수 * (파트 수 + 1) * 파트 크기)
+    private int streamingMaxConcurrent = 4;
+
+    // 스트리밍 업로드 요청당 최대 파일 수 / 크기
+    private int streamingMaxFiles = 20;
+
+    private DataSize streamingMaxFileSize = DataSize.ofGigabytes(1);
+
+    private DataSize streamingMaxRequestSize = DataSize.ofGigabytes(2);
+
+    // 업로드 중 상태로 이 시간(분) 이상 남은 작업은 다시 시도
+    private int staleMinutes = 10;
+
+}
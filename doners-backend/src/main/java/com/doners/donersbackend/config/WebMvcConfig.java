@@ -0,0 +1,79 @@
+package com.doners.donersbackend.config;
+
+import com.doners.donersbackend.security.principal.CurrentUserArgumentResolver;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // 요청 본문을 직접 읽어서 S3 로 전송하는 스트리밍 업로드 경로
+    private static final List<String> STREAMING_UPLOAD_PATTERNS = Arrays.asList("/api/donation/*/evidence");
+
+    // open-in-view 에서 제외하는 경로 : 응답이 오래 열려 있는 요청이 끝날 때까지 DB 커넥션을 잡고 있지 않도록 함
+    private static final String[] OPEN_IN_VIEW_EXCLUDE_PATTERNS = {"/api/notification/subscribe", "/api/donation/*/evidence"};
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver());
+    }
+
+    // spring.jpa.open-in-view 대신 등록 (경로를 제외할 수 있도록)
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(OPEN_IN_VIEW_EXCLUDE_PATTERNS);
+    }
+
+    // 기본 multipart resolver 대신 사용 : 스트리밍 업로드 경로는 미리 파싱하지 않음 (임시 파일 / 메모리에 저장되지 않도록)
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StreamingAwareMultipartResolver multipartResolver = new StreamingAwareMultipartResolver(STREAMING_UPLOAD_PATTERNS);
+        multipartResolver.setResolveLazily(multipartProperties.isResolveLazily());
+
+        return multipartResolver;
+    }
+
+    private static class StreamingAwareMultipartResolver extends StandardServletMultipartResolver {
+
+        private final List<String> streamingPatterns;
+
+        private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+        private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+        private StreamingAwareMultipartResolver(List<String> streamingPatterns) {
+            this.streamingPatterns = streamingPatterns;
+        }
+
+        @Override
+        public boolean isMultipart(HttpServletRequest request) {
+            String path = urlPathHelper.getPathWithinApplication(request);
+
+            if (streamingPatterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) return false;
+
+            return super.isMultipart(request);
+        }
+
+    }
+
+}
@@ -14,6 +14,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_community_update", columnList = "community_id, comment_update_time"),
+        @Index(name = "idx_comment_epilogue_update", columnList = "epilogue_id, comment_update_time")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,6 +30,10 @@ public class Comment extends BaseEntity {
     @Column(name="comment_create_time")
     private LocalDateTime commentCreateTime;
 
+    // 마지막 변경 시간 (작성 / 수정 / 삭제) : 변경분 조회 커서
+    @Column(name="comment_update_time")
+    private LocalDateTime commentUpdateTime;
+
     @Column(name="comment_is_deleted", columnDefinition="BOOLEAN DEFAULT false")
     private boolean commentIsDeleted;
 
@@ -51,6 +59,7 @@ public class Comment extends BaseEntity {
     // 댓글 수정
     public void changeComment(String commentDescription) {
         this.commentDescription = commentDescription;
+        this.commentUpdateTime = LocalDateTime.now();
     }
     // 커뮤니티 아이디 수정
     public void changeCommunityId(Community community) {
@@ -66,6 +75,7 @@ public class Comment extends BaseEntity {
     public void deleteComment() {
         if(!this.commentIsDeleted) {
             this.commentIsDeleted = true;
+            this.commentUpdateTime = LocalDateTime.now();
         }
     }
 }
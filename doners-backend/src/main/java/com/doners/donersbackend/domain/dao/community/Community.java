@@ -3,6 +3,7 @@ package com.doners.donersbackend.domain.dao.community;
 import com.doners.donersbackend.domain.dao.BaseEntity;
 import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.enums.CommunityCode;
+import com.doners.donersbackend.util.text.ExcerptUtils;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,8 +23,13 @@ public class Community extends BaseEntity {
 
     @Column(name="community_description")
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String communityDescription;
 
+    // 목록 미리보기용 요약
+    @Column(name="community_excerpt", length = 300)
+    private String communityExcerpt;
+
     @Column(name="community_create_time")
     private LocalDateTime communityCreateTime;
 
@@ -33,6 +39,17 @@ public class Community extends BaseEntity {
     @Column(name="community_is_deleted", columnDefinition="BOOLEAN DEFAULT false")
     private boolean communityIsDeleted;
 
+    // 댓글 수 (댓글 작성 / 삭제 시 UPDATE 로 증감, 주기적으로 보정)
+    @Column(name="community_comment_count", columnDefinition="BIGINT DEFAULT 0")
+    private Long communityCommentCount;
+
+    @Column(name="community_last_comment_time")
+    private LocalDateTime communityLastCommentTime;
+
+    // 댓글 작성 / 수정 / 삭제마다 증가 : 댓글 목록 ETag
+    @Column(name="community_comment_version", columnDefinition="BIGINT DEFAULT 0")
+    private Long communityCommentVersion;
+
     @Column(name="community_code")
     private CommunityCode communityCode;
 
@@ -44,6 +61,12 @@ public class Community extends BaseEntity {
     public void changeCommunity(String communityTitle,String communityDescription) {
         this.communityTitle = communityTitle;
         this.communityDescription = communityDescription;
+        this.communityExcerpt = ExcerptUtils.createExcerpt(communityDescription);
+    }
+
+    // 요약 생성 (기존 글 보정)
+    public void changeExcerpt() {
+        this.communityExcerpt = ExcerptUtils.createExcerpt(communityDescription);
     }
 
     // 글 삭제
@@ -15,6 +15,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_donation_approval_status", columnList = "donation_approval_status_code, donation_start_date"))
 public class Donation extends BaseEntity {
 
     @Column(name = "donation_contract_address")
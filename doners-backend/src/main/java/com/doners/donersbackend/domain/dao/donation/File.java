@@ -19,6 +19,14 @@ public class File extends BaseEntity {
     @Column(name = "saved_file_name")
     private String savedFileName;
 
+    // 관계 증명서 여부 (아니면 증빙 자료)
+    @Column(name = "file_is_certificate", columnDefinition = "BOOLEAN DEFAULT false")
+    private boolean isCertificate;
+
+    // S3 업로드 재시도 횟수를 넘겨서 실패 (파일이 없으므로 다시 제출해야 함)
+    @Column(name = "file_upload_failed", columnDefinition = "BOOLEAN DEFAULT false")
+    private boolean uploadFailed;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "donation_id")
     private Donation donation;
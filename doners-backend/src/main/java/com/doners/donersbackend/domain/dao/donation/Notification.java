@@ -1,6 +1,7 @@
 package com.doners.donersbackend.domain.dao.donation;
 
 import com.doners.donersbackend.domain.dao.BaseEntity;
+import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.enums.NotificationCode;
 import lombok.*;
 
@@ -14,6 +15,12 @@ import java.time.format.DateTimeFormatter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_notification_user", columnList = "user_id, notification_create_time"),
+        @Index(name = "idx_notification_user_sequence", columnList = "user_id, notification_sequence"),
+        @Index(name = "idx_notification_user_read", columnList = "user_id, notification_is_read"),
+        @Index(name = "idx_notification_donation_code", columnList = "donation_id, notification_code")
+})
 public class Notification extends BaseEntity {
 
     @Column(name = "notification_description")
@@ -28,10 +35,19 @@ public class Notification extends BaseEntity {
     @Column(name = "notification_create_time")
     private String createTime;
 
+    // 생성 순서 (DB 에서 증가) : 재연결 시 놓친 알림 조회 기준 (생성 시간은 초 단위라 같은 초의 알림 순서를 알 수 없음)
+    @Column(name = "notification_sequence", columnDefinition = "BIGINT NOT NULL AUTO_INCREMENT UNIQUE", insertable = false, updatable = false)
+    private Long sequence;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "donation_id")
     private Donation donation;
 
+    // 알림 받을 회원 (기부글 작성자)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
     @PrePersist
     private void onPrePersist() {
         this.createTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
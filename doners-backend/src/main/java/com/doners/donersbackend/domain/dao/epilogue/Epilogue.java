@@ -3,6 +3,7 @@ package com.doners.donersbackend.domain.dao.epilogue;
 import com.doners.donersbackend.domain.dao.BaseEntity;
 import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.util.text.ExcerptUtils;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,8 +23,13 @@ public class Epilogue extends BaseEntity {
 
     @Column(name="epilogue_description")
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String epilogueDescription;
 
+    // 목록 미리보기용 요약
+    @Column(name="epilogue_excerpt", length = 300)
+    private String epilogueExcerpt;
+
     @Column(name="epilogue_create_time")
     private LocalDateTime epilogueCreateTime;
 
@@ -33,6 +39,17 @@ public class Epilogue extends BaseEntity {
     @Column(name="epilogue_is_deleted", columnDefinition="BOOLEAN DEFAULT false")
     private boolean epilogueIsDeleted;
 
+    // 댓글 수 (댓글 작성 / 삭제 시 UPDATE 로 증감, 주기적으로 보정)
+    @Column(name="epilogue_comment_count", columnDefinition="BIGINT DEFAULT 0")
+    private Long epilogueCommentCount;
+
+    @Column(name="epilogue_last_comment_time")
+    private LocalDateTime epilogueLastCommentTime;
+
+    // 댓글 작성 / 수정 / 삭제마다 증가 : 댓글 목록 ETag
+    @Column(name="epilogue_comment_version", columnDefinition="BIGINT DEFAULT 0")
+    private Long epilogueCommentVersion;
+
     @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="user_id")
     private User user;
@@ -45,6 +62,12 @@ public class Epilogue extends BaseEntity {
     public void changeEpilogue(String epilogueTitle,String epilogueDescription) {
         this.epilogueTitle = epilogueTitle;
         this.epilogueDescription = epilogueDescription;
+        this.epilogueExcerpt = ExcerptUtils.createExcerpt(epilogueDescription);
+    }
+
+    // 요약 생성 (기존 글 보정)
+    public void changeExcerpt() {
+        this.epilogueExcerpt = ExcerptUtils.createExcerpt(epilogueDescription);
     }
 
     // 글 삭제
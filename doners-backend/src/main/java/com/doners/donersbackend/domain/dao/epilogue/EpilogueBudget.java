@@ -24,4 +24,10 @@ public class EpilogueBudget extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "epilogue_id")
     private Epilogue epilogue;
+
+    // 활용 계획 수정
+    public void changeEpilogueBudget(String epilogueBudgetPlan, long epilogueBudgetAmount) {
+        this.epilogueBudgetPlan = epilogueBudgetPlan;
+        this.epilogueBudgetAmount = epilogueBudgetAmount;
+    }
 }
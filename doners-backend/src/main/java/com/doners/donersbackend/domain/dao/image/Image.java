@@ -4,11 +4,15 @@ import com.doners.donersbackend.domain.dao.BaseEntity;
 import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
 import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.enums.ImageStatusCode;
+import com.doners.donersbackend.util.image.ImageVariantUtils;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Entity
 @Getter
@@ -23,6 +27,14 @@ public class Image extends BaseEntity {
     @Column(name="image_is_resized", columnDefinition="BOOLEAN DEFAULT false")
     private boolean imageIsResized;
 
+    // 썸네일 생성 상태 : 생성 전까지 imageNewFileName 은 원본 사진을 가리킴 (목록은 원본으로 표시)
+    @Column(name="image_status_code")
+    private ImageStatusCode imageStatusCode;
+
+    // 크기별 썸네일 파일명 ("150:파일명,300:파일명,600:파일명"), imageNewFileName 은 목록용 기본 크기
+    @Column(name="image_variants", length=1000)
+    private String imageVariants;
+
     @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="user_id")
     private User user;
@@ -36,11 +48,12 @@ public class Image extends BaseEntity {
     private Donation donation;
 
     @Builder
-    public Image(String imageOriginFileName, String imageNewFileName, boolean imageIsResized, User user, Donation donation,Epilogue epilogue) {
+    public Image(String imageOriginFileName, String imageNewFileName, boolean imageIsResized, ImageStatusCode imageStatusCode, User user, Donation donation,Epilogue epilogue) {
         super();
         this.imageOriginFileName = imageOriginFileName;
         this.imageNewFileName = imageNewFileName;
         this.imageIsResized = imageIsResized;
+        this.imageStatusCode = imageStatusCode == null ? ImageStatusCode.READY : imageStatusCode;
         this.user = user;
         this.donation = donation;
         this.epilogue = epilogue;
@@ -51,6 +64,25 @@ public class Image extends BaseEntity {
         this.imageNewFileName = imageNewFileName;
     }
 
+    // minSize 이상인 가장 작은 썸네일 (모두 작으면 가장 큰 썸네일, 썸네일이 없으면 현재 파일)
+    public String getVariantFileName(int minSize) {
+        TreeMap<Integer, String> variants = ImageVariantUtils.parseVariants(this.imageVariants);
+
+        if (variants.isEmpty()) return this.imageNewFileName;
+
+        Map.Entry<Integer, String> variant = variants.ceilingEntry(minSize);
+
+        return variant != null ? variant.getValue() : variants.lastEntry().getValue();
+    }
+
+    // 새 원본으로 썸네일 다시 생성 (생성 전까지 원본 사진 사용)
+    public void changePendingThumbnailImage(String imageOriginFileName, String originalFileName) {
+        this.imageOriginFileName = imageOriginFileName;
+        this.imageNewFileName = originalFileName;
+        this.imageStatusCode = ImageStatusCode.PENDING;
+        this.imageVariants = null;
+    }
+
     public void changeThumbnailImage(String imageOriginFileName, String imageNewFileName, boolean imageIsResized) {
         this.imageOriginFileName = imageOriginFileName;
         this.imageNewFileName = imageNewFileName;
@@ -0,0 +1,74 @@
+package com.doners.donersbackend.domain.dao.upload;
+
+import com.doners.donersbackend.domain.dao.BaseEntity;
+import com.doners.donersbackend.domain.dao.donation.Donation;
+import com.doners.donersbackend.domain.enums.UploadStatusCode;
+import com.doners.donersbackend.domain.enums.UploadTypeCode;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// S3 업로드 / 썸네일 생성 outbox : 요청 트랜잭션에서 함께 저장되고, 커밋 이후 작업 스레드에서 처리
+@Getter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_upload_task_status", columnList = "upload_status_code, upload_next_attempt_time"))
+public class UploadTask extends BaseEntity {
+
+    @Column(name = "upload_type_code")
+    private UploadTypeCode uploadTypeCode;
+
+    @Column(name = "upload_status_code")
+    private UploadStatusCode uploadStatusCode;
+
+    // S3 에 저장될 파일명
+    @Column(name = "upload_saved_file_name")
+    private String savedFileName;
+
+    @Column(name = "upload_content_type")
+    private String contentType;
+
+    // 업로드 전까지 임시로 저장된 로컬 경로
+    @Column(name = "upload_staged_path")
+    private String stagedPath;
+
+    @Column(name = "upload_retries")
+    private int retries;
+
+    @Column(name = "upload_last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "upload_next_attempt_time")
+    private LocalDateTime nextAttemptTime;
+
+    @Column(name = "upload_update_time")
+    private LocalDateTime updateTime;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "donation_id")
+    private Donation donation;
+
+    // 썸네일 작업 : 완료되면 상태를 바꿀 사진 ID
+    @Column(name = "upload_image_id")
+    private String imageId;
+
+    public void complete() {
+        this.uploadStatusCode = UploadStatusCode.COMPLETED;
+        this.lastError = null;
+        this.updateTime = LocalDateTime.now();
+    }
+
+    // 재시도 횟수를 넘으면 실패 처리
+    public void fail(String error, int maxRetries, LocalDateTime nextAttemptTime) {
+        this.retries += 1;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        this.uploadStatusCode = retries >= maxRetries ? UploadStatusCode.FAILED : UploadStatusCode.PENDING;
+        this.nextAttemptTime = nextAttemptTime;
+        this.updateTime = LocalDateTime.now();
+    }
+
+}
@@ -35,6 +35,11 @@ public class User extends BaseEntity {
     @Column(name="user_is_deleted", columnDefinition="BOOLEAN DEFAULT false")
     private boolean userIsDeleted;
 
+    // 읽지 않은 알림 수 (알림 생성 / 읽음 처리 시 UPDATE 로 증감, 주기적으로 보정)
+    // 인증 시점에 조회한 회원을 저장해도 덮어쓰지 않도록 엔티티에서는 읽기 전용
+    @Column(name="user_unread_notification_count", columnDefinition="BIGINT DEFAULT 0", insertable = false, updatable = false)
+    private Long userUnreadNotificationCount;
+
     // 닉네임 수정
     public void changeNickname(String nickName) {
         this.userNickname = nickName;
@@ -0,0 +1,21 @@
+package com.doners.donersbackend.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ImageStatusCode implements CommonType {
+
+    PENDING("I01", "생성 대기"),
+    READY("I02", "완료"),
+    FAILED("I03", "실패");
+
+    private final String code;
+
+    private final String description;
+
+    ImageStatusCode(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+}
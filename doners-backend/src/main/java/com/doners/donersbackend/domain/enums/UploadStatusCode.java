@@ -0,0 +1,22 @@
+package com.doners.donersbackend.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum UploadStatusCode implements CommonType {
+
+    PENDING("S01", "대기"),
+    IN_PROGRESS("S02", "업로드 중"),
+    COMPLETED("S03", "완료"),
+    FAILED("S04", "실패");
+
+    private final String code;
+
+    private final String description;
+
+    UploadStatusCode(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.doners.donersbackend.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum UploadTypeCode implements CommonType {
+
+    IMAGE("F01", "대표 사진"),
+    THUMBNAIL("F02", "썸네일"),
+    EVIDENCE("F03", "증빙 자료"),
+    CERTIFICATE("F04", "관계 증명서");
+
+    private final String code;
+
+    private final String description;
+
+    UploadTypeCode(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+}
@@ -3,8 +3,11 @@ package com.doners.donersbackend.domain.repository;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
 import com.doners.donersbackend.domain.dao.comment.Comment;
 import com.doners.donersbackend.domain.dao.community.Community;
+import com.doners.donersbackend.domain.repository.projection.CommentProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +17,26 @@ public interface CommentRepository extends JpaRepository<Comment,String> {
     Optional<List<Comment>> findAllByCommunityAndCommentIsDeletedOrderByCommentCreateTime(Community community, boolean isDeleted);
     Optional<List<Comment>> findAllByEpilogueAndCommentIsDeletedOrderByCommentCreateTime(Epilogue epilogue, boolean isDeleted);
     Optional<List<Comment>> findAllByParentCommentIdAndCommentIsDeletedOrderByCommentCreateTime(Comment comment, boolean isDeleted);
+    // updateTime 이후 작성 / 수정 / 삭제된 커뮤니티 댓글 (변경 순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.community.id = :communityId AND c.commentUpdateTime >= :updateTime " +
+            "ORDER BY c.commentUpdateTime ASC, c.id ASC")
+    List<Comment> findCommunityChangesSince(String communityId, LocalDateTime updateTime);
+    // updateTime 이후 작성 / 수정 / 삭제된 감사 글 댓글 (변경 순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.epilogue.id = :epilogueId AND c.commentUpdateTime >= :updateTime " +
+            "ORDER BY c.commentUpdateTime ASC, c.id ASC")
+    List<Comment> findEpilogueChangesSince(String epilogueId, LocalDateTime updateTime);
+    // 커뮤니티 글의 삭제되지 않은 전체 댓글 (작성자 닉네임 포함, 작성 순)
+    @Query("SELECT new com.doners.donersbackend.domain.repository.projection.CommentProjection(" +
+            "c.id, p.id, c.commentDescription, c.commentCreateTime, u.userNickname) " +
+            "FROM Comment c JOIN c.user u LEFT JOIN c.parentCommentId p " +
+            "WHERE c.community.id = :communityId AND c.commentIsDeleted = false ORDER BY c.commentCreateTime ASC, c.id ASC")
+    List<CommentProjection> findTreeByCommunityId(String communityId);
+    // 감사 글의 삭제되지 않은 전체 댓글 (작성자 닉네임 포함, 작성 순)
+    @Query("SELECT new com.doners.donersbackend.domain.repository.projection.CommentProjection(" +
+            "c.id, p.id, c.commentDescription, c.commentCreateTime, u.userNickname) " +
+            "FROM Comment c JOIN c.user u LEFT JOIN c.parentCommentId p " +
+            "WHERE c.epilogue.id = :epilogueId AND c.commentIsDeleted = false ORDER BY c.commentCreateTime ASC, c.id ASC")
+    List<CommentProjection> findTreeByEpilogueId(String epilogueId);
 }
@@ -2,15 +2,45 @@ package com.doners.donersbackend.domain.repository;
 
 import com.doners.donersbackend.domain.dao.community.Community;
 import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.repository.projection.CommunityListProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface CommunityRepository extends JpaRepository<Community,String> {
     Optional<Community> findByIdAndCommunityIsDeleted(String communityId, boolean isDeleted);
+    boolean existsByIdAndCommunityIsDeleted(String communityId, boolean isDeleted);
     Optional<List<Community>> findByCommunityIsDeleted(boolean isDeleted);
-    Optional<List<Community>> findByCommunityIsDeletedOrderByCommunityCodeAscCommunityCreateTimeDesc(boolean isDeleted, Pageable pageable);
+    // 목록 조회 : 공지 먼저, 최신 순 (본문 대신 요약)
+    @Query("SELECT new com.doners.donersbackend.domain.repository.projection.CommunityListProjection(" +
+            "c.id, c.communityTitle, c.communityExcerpt, c.communityCreateTime, c.communityViews, u.userNickname, c.communityCode, c.communityCommentCount) " +
+            "FROM Community c JOIN c.user u " +
+            "WHERE c.communityIsDeleted = false ORDER BY c.communityCode ASC, c.communityCreateTime DESC, c.id DESC")
+    List<CommunityListProjection> findCommunityList(Pageable pageable);
+    // 요약이 없는 기존 글
+    List<Community> findByCommunityExcerptIsNull(Pageable pageable);
     Optional<List<Community>> findByUserAndCommunityIsDeletedOrderByCommunityCreateTimeDesc(User user, boolean isDeleted);
+    // 댓글 작성 : 댓글 수, 버전 증가 + 마지막 댓글 시간 갱신
+    @Modifying
+    @Query("UPDATE Community c SET c.communityCommentCount = COALESCE(c.communityCommentCount, 0) + 1, c.communityCommentVersion = COALESCE(c.communityCommentVersion, 0) + 1, " +
+            "c.communityLastCommentTime = :commentTime WHERE c.id = :communityId")
+    int increaseCommentCount(String communityId, LocalDateTime commentTime);
+    // 댓글 삭제 : 댓글 수 감소, 버전 증가 + 남은 댓글 중 마지막 시간으로 갱신
+    @Modifying
+    @Query("UPDATE Community c SET c.communityCommentCount = CASE WHEN COALESCE(c.communityCommentCount, 0) > 0 THEN c.communityCommentCount - 1 ELSE 0 END, c.communityCommentVersion = COALESCE(c.communityCommentVersion, 0) + 1, " +
+            "c.communityLastCommentTime = (SELECT MAX(cm.commentCreateTime) FROM Comment cm WHERE cm.community.id = :communityId AND cm.commentIsDeleted = false) " +
+            "WHERE c.id = :communityId")
+    int decreaseCommentCount(String communityId);
+    // 댓글 수정 : 댓글 목록 버전만 증가
+    @Modifying
+    @Query("UPDATE Community c SET c.communityCommentVersion = COALESCE(c.communityCommentVersion, 0) + 1 WHERE c.id = :communityId")
+    int increaseCommentVersion(String communityId);
+    // 댓글 목록 버전 (글 전체를 읽지 않고 조건부 조회 처리)
+    @Query("SELECT COALESCE(c.communityCommentVersion, 0) FROM Community c WHERE c.id = :communityId AND c.communityIsDeleted = false")
+    Optional<Long> findCommentVersionById(String communityId);
 }
@@ -3,8 +3,12 @@ package com.doners.donersbackend.domain.repository;
 import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.donation.File;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,17 @@ public interface FileRepository extends JpaRepository<File, String> {
 
     Optional<List<File>> findByDonation(Donation donation);
 
+    // 증빙 자료가 있는지 (관계 증명서 제외)
+    boolean existsByDonationAndIsCertificate(Donation donation, boolean isCertificate);
+
+    // 증빙 자료가 있는 기부글 ID (일괄 승인)
+    @Query("SELECT DISTINCT f.donation.id FROM File f WHERE f.donation.id IN :donationIds AND f.isCertificate = false")
+    List<String> findEvidenceDonationIdByDonationIdIn(Collection<String> donationIds);
+
+    // 업로드 실패 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE File f SET f.uploadFailed = true WHERE f.savedFileName = :savedFileName")
+    int markUploadFailed(String savedFileName);
+
 }
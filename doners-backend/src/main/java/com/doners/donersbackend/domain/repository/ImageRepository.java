@@ -4,7 +4,11 @@ import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
 import com.doners.donersbackend.domain.dao.image.Image;
 import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.enums.ImageStatusCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -18,4 +22,27 @@ public interface ImageRepository extends JpaRepository<Image, String> {
 
     Optional<Image> findByEpilogueAndImageIsResized(Epilogue epilogue, boolean isResized);
 
+    // 썸네일 생성 완료 : 아직 같은 원본으로 대기 중일 때만 썸네일 파일로 변경 (그 사이 원본이 바뀌었으면 무시)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.imageNewFileName = :thumbnailFileName, i.imageVariants = :variants, i.imageStatusCode = :status " +
+            "WHERE i.id = :id AND i.imageNewFileName = :originalFileName")
+    int completeThumbnail(String id, String originalFileName, String thumbnailFileName, String variants, ImageStatusCode status);
+
+    // 썸네일 생성 실패 : 원본 사진을 계속 사용
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.imageStatusCode = :status WHERE i.id = :id AND i.imageNewFileName = :originalFileName")
+    int changeStatus(String id, String originalFileName, ImageStatusCode status);
+
+    // 원본 업로드 실패 : 원본을 가리키는 사진(썸네일 생성 전 포함)을 실패로 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.imageStatusCode = :status WHERE i.imageNewFileName = :fileName")
+    int changeStatusByFileName(String fileName, ImageStatusCode status);
+
+    // 기부글 사진이면 기부글 ID (프로필 / 감사 글 사진은 없음)
+    @Query("SELECT i.donation.id FROM Image i WHERE i.id = :id")
+    Optional<String> findDonationIdById(String id);
+
 }
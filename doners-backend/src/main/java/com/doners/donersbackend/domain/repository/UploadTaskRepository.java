@@ -0,0 +1,45 @@
+package com.doners.donersbackend.domain.repository;
+
+import com.doners.donersbackend.domain.dao.upload.UploadTask;
+import com.doners.donersbackend.domain.enums.UploadStatusCode;
+import com.doners.donersbackend.domain.enums.UploadTypeCode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadTaskRepository extends JpaRepository<UploadTask, String> {
+
+    // 처리할 차례가 된 작업
+    List<UploadTask> findByUploadStatusCodeAndNextAttemptTimeLessThanEqualOrderByNextAttemptTime(UploadStatusCode uploadStatusCode, LocalDateTime now, Pageable pageable);
+
+    boolean existsByStagedPathAndUploadStatusCodeIn(String stagedPath, List<UploadStatusCode> uploadStatusCodes);
+
+    // 업로드가 끝나지 않았거나 실패한 파일(썸네일 제외)이 있는 기부글 ID (승인 불가)
+    @Query("SELECT DISTINCT t.donation.id FROM UploadTask t WHERE t.donation.id IN :donationIds AND t.uploadTypeCode <> :excludedType AND t.uploadStatusCode IN :statuses")
+    List<String> findDonationIdByDonationIdInAndStatusIn(Collection<String> donationIds, UploadTypeCode excludedType, List<UploadStatusCode> statuses);
+
+    @Query("SELECT t.donation.id FROM UploadTask t WHERE t.id = :id")
+    Optional<String> findDonationIdById(String id);
+
+    // 상태가 from 일 때만 to 로 변경 (작업 선점)
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadTask t SET t.uploadStatusCode = :to, t.updateTime = :now WHERE t.id = :id AND t.uploadStatusCode = :from")
+    int changeStatus(String id, UploadStatusCode from, UploadStatusCode to, LocalDateTime now);
+
+    // 서버가 중단되어 업로드 중으로 남은 작업을 다시 대기 상태로
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadTask t SET t.uploadStatusCode = :to, t.updateTime = :now WHERE t.uploadStatusCode = :from AND t.updateTime < :before")
+    int changeStaleStatus(UploadStatusCode from, UploadStatusCode to, LocalDateTime before, LocalDateTime now);
+
+}
@@ -2,6 +2,8 @@ package com.doners.donersbackend.domain.repository;
 
 import com.doners.donersbackend.domain.dao.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +16,14 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByUserEmailAndUserIsDeleted(String userEmail, boolean userIsDeleted);
     Optional<User> findByUserAccount(String userAccount);
     Optional<User> findByUserAccountAndUserIsDeleted(String userAccount, boolean userIsDeleted);
+    // 읽지 않은 알림 수
+    @Query("SELECT COALESCE(u.userUnreadNotificationCount, 0) FROM User u WHERE u.id = :userId")
+    Optional<Long> findUnreadNotificationCountById(String userId);
+    @Modifying
+    @Query("UPDATE User u SET u.userUnreadNotificationCount = COALESCE(u.userUnreadNotificationCount, 0) + :count WHERE u.id = :userId")
+    int increaseUnreadNotificationCount(String userId, long count);
+    @Modifying
+    @Query("UPDATE User u SET u.userUnreadNotificationCount = CASE WHEN COALESCE(u.userUnreadNotificationCount, 0) > :count " +
+            "THEN u.userUnreadNotificationCount - :count ELSE 0 END WHERE u.id = :userId")
+    int decreaseUnreadNotificationCount(String userId, long count);
 }
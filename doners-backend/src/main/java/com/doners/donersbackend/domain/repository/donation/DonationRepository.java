@@ -4,51 +4,97 @@ import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.enums.ApprovalStatusCode;
 import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.domain.enums.NotificationCode;
+import com.doners.donersbackend.domain.repository.donation.projection.DonationListProjection;
+import com.doners.donersbackend.domain.repository.donation.projection.DonationOwnerProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DonationRepository extends JpaRepository<Donation, String> {
 
-    Optional<List<Donation>> findByCategoryCodeAndIsApprovedAndIsDeleted(CategoryCode categoryCode, boolean approve, boolean delete, Pageable pageable);
-
-    Optional<List<Donation>> findByCategoryCodeAndIsApprovedAndIsDeletedAndEndDateGreaterThanEqual(CategoryCode categoryCode, boolean approve, boolean delete, LocalDate today, Pageable pageable);
+    // 목록 카드 조회 : 썸네일, 작성자 닉네임까지 한 번에 조회
+    String LIST_SELECT = "SELECT new com.doners.donersbackend.domain.repository.donation.projection.DonationListProjection(" +
+            "d.id, d.categoryCode, d.title, d.beneficiaryName, u.userNickname, d.amount, d.startDate, d.endDate, d.contractAddress, i.imageNewFileName) " +
+            "FROM Donation d JOIN d.user u LEFT JOIN Image i ON i.donation = d AND i.imageIsResized = true ";
+
+    // 최신 순 (커서가 없으면 offset 페이지, 있으면 (startDate, id) 기준으로 이어서 조회)
+    @Query(LIST_SELECT + "WHERE d.categoryCode = :categoryCode AND d.isApproved = true AND d.isDeleted = false " +
+            "AND (:view = false OR d.endDate >= :today) " +
+            "AND (:cursorId IS NULL OR d.startDate < :cursorDate OR (d.startDate = :cursorDate AND d.id < :cursorId)) " +
+            "ORDER BY d.startDate DESC, d.id DESC")
+    Optional<List<DonationListProjection>> findByCategoryCodeOrderByStartDate(CategoryCode categoryCode, boolean view, LocalDate today, LocalDate cursorDate, String cursorId, Pageable pageable);
+
+    // 마감 임박 순 (커서가 없으면 offset 페이지, 있으면 (endDate, id) 기준으로 이어서 조회)
+    @Query(LIST_SELECT + "WHERE d.categoryCode = :categoryCode AND d.isApproved = true AND d.isDeleted = false " +
+            "AND (:view = false OR d.endDate >= :today) " +
+            "AND (:cursorId IS NULL OR d.endDate > :cursorDate OR (d.endDate = :cursorDate AND d.id > :cursorId)) " +
+            "ORDER BY d.endDate ASC, d.id ASC")
+    Optional<List<DonationListProjection>> findByCategoryCodeOrderByEndDate(CategoryCode categoryCode, boolean view, LocalDate today, LocalDate cursorDate, String cursorId, Pageable pageable);
 
     boolean existsByIdAndIsDeleted(String donationId, boolean delete);
 
     boolean existsByUserAndIsReceived(User user, boolean isReceived);
 
-    Optional<List<Donation>> findByIsApprovedAndApprovalStatusCode(boolean isApproved, ApprovalStatusCode approvalStatusCode);
+    // 승인 대기 목록 (오래된 순, 카테고리 / 대리인 여부 필터)
+    @Query(LIST_SELECT + "WHERE d.isApproved = false AND d.isDeleted = false AND d.approvalStatusCode = :approvalStatusCode " +
+            "AND (:categoryCode IS NULL OR d.categoryCode = :categoryCode) " +
+            "AND (:deputy IS NULL OR d.isDeputy = :deputy) " +
+            "AND (:cursorId IS NULL OR d.startDate > :cursorDate OR (d.startDate = :cursorDate AND d.id > :cursorId)) " +
+            "ORDER BY d.startDate ASC, d.id ASC")
+    Optional<List<DonationListProjection>> findPendingList(ApprovalStatusCode approvalStatusCode, CategoryCode categoryCode, Boolean deputy, LocalDate cursorDate, String cursorId, Pageable pageable);
 
-    Optional<List<Donation>> findByUserAndIsDeletedOrderByEndDateDesc(User user, boolean isDeleted);
+    // 일괄 승인 / 거절 대상 중 아직 승인 대기 중인 기부글
+    @Query("SELECT d.id FROM Donation d WHERE d.id IN :ids AND d.isApproved = false AND d.isDeleted = false AND d.approvalStatusCode = :approvalStatusCode")
+    List<String> findPendingIdByIdIn(Collection<String> ids, ApprovalStatusCode approvalStatusCode);
 
-    Optional<List<Donation>> findByUserAndIsDeletedOrderByStartDateDesc(User user, boolean isDeleted);
+    // 모금 중인 기부글 (메모리 색인 적재용)
+    @Query(LIST_SELECT + "WHERE d.isApproved = true AND d.isDeleted = false AND d.endDate >= :today")
+    List<DonationListProjection> findOpenList(LocalDate today);
 
-    @Query("SELECT d FROM Donation d WHERE d.categoryCode = :categoryCode AND (d.title LIKE %:title% OR d.description LIKE %:description%)")
-    Optional<List<Donation>> findByCategoryCodeAndTitleContainingOrDescriptionContaining(CategoryCode categoryCode, String title, String description, Pageable pageable);
+    @Query(LIST_SELECT + "WHERE d.id = :donationId AND d.isApproved = true AND d.isDeleted = false AND d.endDate >= :today")
+    Optional<DonationListProjection> findOpenListById(String donationId, LocalDate today);
 
-    Optional<List<Donation>> findByCategoryCodeAndTitleContaining(CategoryCode category, String title, Pageable pageable);
+    @Query(LIST_SELECT + "WHERE u.id = :userId AND d.isApproved = true AND d.isDeleted = false AND d.endDate >= :today")
+    List<DonationListProjection> findOpenListByUserId(String userId, LocalDate today);
 
-    Optional<List<Donation>> findByCategoryCodeAndDescriptionContaining(CategoryCode category, String description, Pageable pageable);
+    // 검색 색인 결과 조회 (스냅샷 이후 삭제된 기부글 제외)
+    @Query(LIST_SELECT + "WHERE d.id IN :ids AND d.isApproved = true AND d.isDeleted = false")
+    List<DonationListProjection> findListByIdIn(Collection<String> ids);
 
-    Optional<List<Donation>> findByCategoryCodeAndUser(CategoryCode category, User user, Pageable pageable);
+    Optional<List<Donation>> findByUserAndIsDeletedOrderByEndDateDesc(User user, boolean isDeleted);
+
+    Optional<List<Donation>> findByUserAndIsDeletedOrderByStartDateDesc(User user, boolean isDeleted);
 
-    @Query("SELECT d FROM Donation d WHERE d.categoryCode = :categoryCode AND (d.title LIKE %:title% OR d.description LIKE %:description%) AND d.endDate >= :today")
-    Optional<List<Donation>> findByCategoryCodeAndTitleContainingOrDescriptionContainingAndEndDateGreaterThanEqual(CategoryCode categoryCode, String title, String description, LocalDate today, Pageable pageable);
+    // 검색 (닉네임)
+    @Query(LIST_SELECT + "WHERE d.categoryCode = :categoryCode AND d.user = :user AND d.isApproved = true AND d.isDeleted = false " +
+            "AND (:view = false OR d.endDate >= :today) " +
+            "AND (:cursorId IS NULL OR d.startDate < :cursorDate OR (d.startDate = :cursorDate AND d.id < :cursorId)) " +
+            "ORDER BY d.startDate DESC, d.id DESC")
+    Optional<List<DonationListProjection>> searchByUser(CategoryCode categoryCode, User user, boolean view, LocalDate today, LocalDate cursorDate, String cursorId, Pageable pageable);
 
-    Optional<List<Donation>> findByCategoryCodeAndTitleContainingAndEndDateGreaterThanEqual(CategoryCode category, String title, LocalDate today, Pageable pageable);
+    // 알림 생성 대상 기부글 작성자
+    String OWNER_SELECT = "SELECT new com.doners.donersbackend.domain.repository.donation.projection.DonationOwnerProjection(d.id, d.user.id, d.approvalStatusCode) FROM Donation d ";
 
-    Optional<List<Donation>> findByCategoryCodeAndDescriptionContainingAndEndDateGreaterThanEqual(CategoryCode category, String description, LocalDate today, Pageable pageable);
+    @Query(OWNER_SELECT + "WHERE d.id IN :ids")
+    List<DonationOwnerProjection> findOwnerByIdIn(Collection<String> ids);
 
-    Optional<List<Donation>> findByCategoryCodeAndUserAndEndDateGreaterThanEqual(CategoryCode category, User user, LocalDate today, Pageable pageable);
+    // 마감되었지만 마감 알림이 없는 기부글
+    @Query(OWNER_SELECT + "WHERE d.isApproved = true AND d.endDate < :today " +
+            "AND NOT EXISTS (SELECT n FROM Notification n WHERE n.donation = d AND n.notificationCode = :notificationCode)")
+    List<DonationOwnerProjection> findClosedOwnerWithoutNotification(LocalDate today, NotificationCode notificationCode, Pageable pageable);
 
-    Optional<List<Donation>> findByUserOrderByEndDateDesc(User user);
+    // 승인 / 거절되었지만 승인 여부 알림이 없는 기부글 (알림을 조회 시점에 만들던 때의 데이터)
+    @Query(OWNER_SELECT + "WHERE d.approvalStatusCode <> :approvalStatusCode " +
+            "AND NOT EXISTS (SELECT n FROM Notification n WHERE n.donation = d AND n.notificationCode = :notificationCode)")
+    List<DonationOwnerProjection> findReviewedOwnerWithoutNotification(ApprovalStatusCode approvalStatusCode, NotificationCode notificationCode, Pageable pageable);
 
     Optional<List<Donation>> findByUserAndIsApproved(User user, boolean approve);
 
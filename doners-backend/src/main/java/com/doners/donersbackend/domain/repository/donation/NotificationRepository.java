@@ -1,16 +1,46 @@
 package com.doners.donersbackend.domain.repository.donation;
 
-import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.donation.Notification;
 import com.doners.donersbackend.domain.enums.NotificationCode;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, String> {
 
-    Optional<Notification> findByDonationAndNotificationCode(Donation donation, NotificationCode notificationCode);
+    // 회원 알림 최신 순
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createTime DESC, n.id DESC")
+    List<Notification> findByUserId(String userId, Pageable pageable);
+
+    // 재연결 시 마지막으로 받은 알림의 생성 순서
+    @Query("SELECT n.sequence FROM Notification n WHERE n.id = :id AND n.user.id = :userId")
+    Optional<Long> findSequenceByIdAndUserId(String id, String userId);
+
+    // 재연결 시 놓친 알림 (마지막으로 받은 알림 이후 생성 순)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.sequence > :sequence ORDER BY n.sequence ASC")
+    List<Notification> findByUserIdAndSequenceAfter(String userId, long sequence, Pageable pageable);
+
+    Optional<Notification> findByIdAndUser_Id(String id, String userId);
+
+    // 읽음 처리 : 선택한 알림 중 읽지 않은 알림만
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false AND n.id IN :ids")
+    int readByIdIn(String userId, Collection<String> ids);
+
+    // 읽음 처리 : 회원의 읽지 않은 알림 전체
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int readAllByUserId(String userId);
+
+    // 이미 알림이 생성된 기부글 ID
+    @Query("SELECT n.donation.id FROM Notification n WHERE n.donation.id IN :donationIds AND n.notificationCode = :notificationCode")
+    List<String> findDonationIdByDonationIdIn(Collection<String> donationIds, NotificationCode notificationCode);
 
 }
@@ -0,0 +1,48 @@
+package com.doners.donersbackend.domain.repository.donation.projection;
+
+import com.doners.donersbackend.domain.enums.CategoryCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+// 기부글 목록 카드 조회용 : 기부글 + 썸네일 파일명 + 작성자 닉네임을 한 번의 쿼리로 조회
+@Getter
+@ToString
+public class DonationListProjection {
+
+    private final String id;
+
+    private final CategoryCode categoryCode;
+
+    private final String title;
+
+    private final String beneficiaryName;
+
+    private final String userNickname;
+
+    private final double amount;
+
+    private final LocalDate startDate;
+
+    private final LocalDate endDate;
+
+    private final String contractAddress;
+
+    // 썸네일이 없으면 null
+    private final String thumbnailFileName;
+
+    public DonationListProjection(String id, CategoryCode categoryCode, String title, String beneficiaryName, String userNickname, double amount, LocalDate startDate, LocalDate endDate, String contractAddress, String thumbnailFileName) {
+        this.id = id;
+        this.categoryCode = categoryCode;
+        this.title = title;
+        this.beneficiaryName = beneficiaryName;
+        this.userNickname = userNickname;
+        this.amount = amount;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.contractAddress = contractAddress;
+        this.thumbnailFileName = thumbnailFileName;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.doners.donersbackend.domain.repository.donation.projection;
+
+import com.doners.donersbackend.domain.enums.ApprovalStatusCode;
+import lombok.Getter;
+import lombok.ToString;
+
+// 알림 생성용 : 기부글 ID + 작성자 ID + 승인 상태
+@Getter
+@ToString
+public class DonationOwnerProjection {
+
+    private final String donationId;
+
+    private final String userId;
+
+    private final ApprovalStatusCode approvalStatusCode;
+
+    public DonationOwnerProjection(String donationId, String userId, ApprovalStatusCode approvalStatusCode) {
+        this.donationId = donationId;
+        this.userId = userId;
+        this.approvalStatusCode = approvalStatusCode;
+    }
+
+}
@@ -3,16 +3,46 @@ package com.doners.donersbackend.domain.repository.epilogue;
 import com.doners.donersbackend.domain.dao.donation.Donation;
 import com.doners.donersbackend.domain.dao.epilogue.Epilogue;
 import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.repository.epilogue.projection.EpilogueListProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface EpilogueRepository extends JpaRepository<Epilogue,String> {
     Optional<Epilogue> findByIdAndEpilogueIsDeleted(String epilogueId, boolean isDeleted);
+    boolean existsByIdAndEpilogueIsDeleted(String epilogueId, boolean isDeleted);
     Optional<Epilogue> findByDonationAndEpilogueIsDeleted(Donation donation, boolean isDeleted);
-    Optional<List<Epilogue>> findByEpilogueIsDeletedOrderByEpilogueCreateTimeDesc(boolean isDeleted, Pageable pageable);
+    // 목록 조회 : 썸네일, 작성자 닉네임까지 한 번에 조회 (본문 대신 요약)
+    @Query("SELECT new com.doners.donersbackend.domain.repository.epilogue.projection.EpilogueListProjection(" +
+            "e.id, e.epilogueTitle, e.epilogueExcerpt, e.epilogueCreateTime, e.epilogueViews, u.userNickname, i.imageNewFileName) " +
+            "FROM Epilogue e JOIN e.user u LEFT JOIN Image i ON i.epilogue = e AND i.imageIsResized = true " +
+            "WHERE e.epilogueIsDeleted = false ORDER BY e.epilogueCreateTime DESC, e.id DESC")
+    List<EpilogueListProjection> findEpilogueList(Pageable pageable);
     Optional<List<Epilogue>> findByEpilogueIsDeleted(boolean isDeleted);
+    // 요약이 없는 기존 글
+    List<Epilogue> findByEpilogueExcerptIsNull(Pageable pageable);
     Optional<List<Epilogue>> findByUserAndEpilogueIsDeletedOrderByEpilogueCreateTimeDesc(User user, boolean isDeleted);
+    // 댓글 작성 : 댓글 수, 버전 증가 + 마지막 댓글 시간 갱신
+    @Modifying
+    @Query("UPDATE Epilogue e SET e.epilogueCommentCount = COALESCE(e.epilogueCommentCount, 0) + 1, e.epilogueCommentVersion = COALESCE(e.epilogueCommentVersion, 0) + 1, " +
+            "e.epilogueLastCommentTime = :commentTime WHERE e.id = :epilogueId")
+    int increaseCommentCount(String epilogueId, LocalDateTime commentTime);
+    // 댓글 삭제 : 댓글 수 감소, 버전 증가 + 남은 댓글 중 마지막 시간으로 갱신
+    @Modifying
+    @Query("UPDATE Epilogue e SET e.epilogueCommentCount = CASE WHEN COALESCE(e.epilogueCommentCount, 0) > 0 THEN e.epilogueCommentCount - 1 ELSE 0 END, e.epilogueCommentVersion = COALESCE(e.epilogueCommentVersion, 0) + 1, " +
+            "e.epilogueLastCommentTime = (SELECT MAX(cm.commentCreateTime) FROM Comment cm WHERE cm.epilogue.id = :epilogueId AND cm.commentIsDeleted = false) " +
+            "WHERE e.id = :epilogueId")
+    int decreaseCommentCount(String epilogueId);
+    // 댓글 수정 : 댓글 목록 버전만 증가
+    @Modifying
+    @Query("UPDATE Epilogue e SET e.epilogueCommentVersion = COALESCE(e.epilogueCommentVersion, 0) + 1 WHERE e.id = :epilogueId")
+    int increaseCommentVersion(String epilogueId);
+    // 댓글 목록 버전 (글 전체를 읽지 않고 조건부 조회 처리)
+    @Query("SELECT COALESCE(e.epilogueCommentVersion, 0) FROM Epilogue e WHERE e.id = :epilogueId AND e.epilogueIsDeleted = false")
+    Optional<Long> findCommentVersionById(String epilogueId);
 }
@@ -0,0 +1,38 @@
+package com.doners.donersbackend.domain.repository.epilogue.projection;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 에필로그 목록 조회용 : 에필로그(본문 대신 요약) + 썸네일 파일명 + 작성자 닉네임을 한 번의 쿼리로 조회
+@Getter
+@ToString
+public class EpilogueListProjection {
+
+    private final String id;
+
+    private final String epilogueTitle;
+
+    private final String epilogueExcerpt;
+
+    private final LocalDateTime epilogueCreateTime;
+
+    private final Long epilogueViews;
+
+    private final String epilogueWriter;
+
+    // 썸네일이 없으면 null
+    private final String thumbnailFileName;
+
+    public EpilogueListProjection(String id, String epilogueTitle, String epilogueExcerpt, LocalDateTime epilogueCreateTime, Long epilogueViews, String epilogueWriter, String thumbnailFileName) {
+        this.id = id;
+        this.epilogueTitle = epilogueTitle;
+        this.epilogueExcerpt = epilogueExcerpt;
+        this.epilogueCreateTime = epilogueCreateTime;
+        this.epilogueViews = epilogueViews;
+        this.epilogueWriter = epilogueWriter;
+        this.thumbnailFileName = thumbnailFileName;
+    }
+
+}
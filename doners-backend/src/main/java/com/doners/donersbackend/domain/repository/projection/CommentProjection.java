@@ -0,0 +1,31 @@
+package com.doners.donersbackend.domain.repository.projection;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 댓글 트리 조회용 : 댓글 + 부모 댓글 ID + 작성자 닉네임
+@Getter
+@ToString
+public class CommentProjection {
+
+    private final String id;
+
+    private final String parentId;
+
+    private final String commentDescription;
+
+    private final LocalDateTime commentCreateTime;
+
+    private final String nickname;
+
+    public CommentProjection(String id, String parentId, String commentDescription, LocalDateTime commentCreateTime, String nickname) {
+        this.id = id;
+        this.parentId = parentId;
+        this.commentDescription = commentDescription;
+        this.commentCreateTime = commentCreateTime;
+        this.nickname = nickname;
+    }
+
+}
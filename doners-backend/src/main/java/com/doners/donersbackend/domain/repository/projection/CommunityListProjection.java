@@ -0,0 +1,41 @@
+package com.doners.donersbackend.domain.repository.projection;
+
+import com.doners.donersbackend.domain.enums.CommunityCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 커뮤니티 목록 조회용 : 본문(LOB) 대신 요약 + 작성자 닉네임을 한 번의 쿼리로 조회
+@Getter
+@ToString
+public class CommunityListProjection {
+
+    private final String id;
+
+    private final String communityTitle;
+
+    private final String communityExcerpt;
+
+    private final LocalDateTime communityCreateTime;
+
+    private final Long communityViews;
+
+    private final String communityWriter;
+
+    private final CommunityCode communityCode;
+
+    private final Long communityCommentCount;
+
+    public CommunityListProjection(String id, String communityTitle, String communityExcerpt, LocalDateTime communityCreateTime, Long communityViews, String communityWriter, CommunityCode communityCode, Long communityCommentCount) {
+        this.id = id;
+        this.communityTitle = communityTitle;
+        this.communityExcerpt = communityExcerpt;
+        this.communityCreateTime = communityCreateTime;
+        this.communityViews = communityViews;
+        this.communityWriter = communityWriter;
+        this.communityCode = communityCode;
+        this.communityCommentCount = communityCommentCount;
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.doners.donersbackend.security.config;
 
+import com.doners.donersbackend.config.RateLimitProperties;
+import com.doners.donersbackend.security.ratelimit.RateLimitFilter;
+import com.doners.donersbackend.security.ratelimit.TokenBucketRateLimiter;
 import com.doners.donersbackend.security.service.UserDetailsServiceImpl;
 import com.doners.donersbackend.security.util.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +36,12 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     private JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    @Autowired
+    private RateLimitProperties rateLimitProperties;
+
+    @Autowired
+    private TokenBucketRateLimiter tokenBucketRateLimiter;
+
     @Bean
     @Override
     public AuthenticationManager authenticationManagerBean() throws Exception {
@@ -79,7 +88,10 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .and()
                 // JWT 필터 추가
                 .addFilterBefore(new JwtAuthenticationFilter(jwtAuthenticationProvider),
-                        UsernamePasswordAuthenticationFilter.class);
+                        UsernamePasswordAuthenticationFilter.class)
+                // 요청 제한 필터 추가 (인증 정보로 계정별 제한을 하기 위해 JWT 필터 다음에 실행)
+                .addFilterAfter(new RateLimitFilter(rateLimitProperties, tokenBucketRateLimiter),
+                        JwtAuthenticationFilter.class);
 
     }
 
@@ -0,0 +1,13 @@
+package com.doners.donersbackend.security.principal;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// JWT 필터에서 인증된 회원을 컨트롤러 파라미터로 주입
+// Authorization 헤더를 다시 파싱하거나 회원을 다시 조회하지 않음
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -0,0 +1,113 @@
+package com.doners.donersbackend.security.ratelimit;
+
+import com.doners.donersbackend.config.RateLimitProperties;
+import com.doners.donersbackend.security.service.UserDetailsImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// 비용이 큰 API 에 대한 요청 제한 필터로 JwtAuthenticationFilter 다음에 실행
+// 로그인한 요청은 지갑 계정, 아니면 클라이언트 IP 기준으로 버킷을 나눔
+// 제한에 걸리면 컨트롤러까지 가지 않고 바로 429 응답 (multipart 본문도 읽지 않음)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY = "{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\",\"statusCode\":429}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final RateLimitProperties rateLimitProperties;
+
+    private final TokenBucketRateLimiter rateLimiter;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public RateLimitFilter(RateLimitProperties rateLimitProperties, TokenBucketRateLimiter rateLimiter) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (rateLimitProperties.isEnabled()) {
+            String path = lookupPath(request);
+            String client = null;
+
+            for (RateLimitProperties.Rule rule : rateLimitProperties.getRules()) {
+                if (!matches(rule, request.getMethod(), path)) continue;
+
+                if (client == null) client = resolveClient(request);
+
+                long wait = rateLimiter.tryAcquire(rule, client);
+
+                if (wait > 0) {
+                    reject(response, wait);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+
+    }
+
+    // 컨트롤러 매핑과 같은 기준의 경로 : 디코딩, ;jsessionid 등 제거, 끝의 / 제거 (Spring MVC 는 /api/donation/ 도 /api/donation 으로 매핑)
+    private String lookupPath(HttpServletRequest request) {
+
+        String path = urlPathHelper.getLookupPathForRequest(request);
+
+        while (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+
+        return path;
+
+    }
+
+    private boolean matches(RateLimitProperties.Rule rule, String method, String path) {
+
+        if (rule.getMethod() != null && !rule.getMethod().isEmpty() && !rule.getMethod().equalsIgnoreCase(method)) return false;
+
+        return pathMatcher.match(rule.getPattern(), path);
+
+    }
+
+    private String resolveClient(HttpServletRequest request) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl) {
+            return "account:" + ((UserDetailsImpl) authentication.getPrincipal()).getUsername();
+        }
+
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 X-Forwarded-For 의 클라이언트 IP 가 들어옴
+        return "ip:" + request.getRemoteAddr();
+
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+
+    }
+
+}
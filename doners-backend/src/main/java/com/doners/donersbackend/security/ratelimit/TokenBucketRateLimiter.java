@@ -0,0 +1,127 @@
+package com.doners.donersbackend.security.ratelimit;
+
+import com.doners.donersbackend.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 메모리 토큰 버킷 (규칙 + 클라이언트별 버킷)
+// 버킷 저장소를 여러 개로 나눠서 잠그므로 다른 클라이언트의 요청끼리는 경합하지 않음
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private final Stripe[] stripes;
+
+    // 규칙 ID -> 거절 수 (누적)
+    private final Map<String, AtomicLong> rejections = new ConcurrentHashMap<>();
+
+    // 규칙 ID -> 마지막으로 로그에 남긴 거절 수
+    private final Map<String, Long> reported = new HashMap<>();
+
+    public TokenBucketRateLimiter(RateLimitProperties rateLimitProperties) {
+
+        int count = Math.max(1, rateLimitProperties.getStripes());
+        int maxBuckets = Math.max(1, rateLimitProperties.getMaxBuckets() / count);
+
+        this.stripes = new Stripe[count];
+
+        for (int i = 0; i < count; i++) stripes[i] = new Stripe(maxBuckets);
+
+    }
+
+    // 토큰을 하나 사용하고 0 반환, 토큰이 없으면 다음 토큰까지 남은 시간(ns) 반환
+    public long tryAcquire(RateLimitProperties.Rule rule, String client) {
+
+        String key = rule.getId() + "|" + client;
+        Stripe stripe = stripes[(key.hashCode() & Integer.MAX_VALUE) % stripes.length];
+        long now = System.nanoTime();
+        long wait;
+
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+
+            if (bucket == null) {
+                bucket = new Bucket(rule.getCapacity(), now);
+                stripe.buckets.put(key, bucket);
+            }
+
+            wait = bucket.tryConsume(rule, now);
+        }
+
+        if (wait > 0) rejections.computeIfAbsent(rule.getId(), k -> new AtomicLong()).incrementAndGet();
+
+        return wait;
+
+    }
+
+    // 주기 동안 거절된 요청이 있으면 규칙별로 로그
+    @Scheduled(fixedDelayString = "${doners.rate-limit.stats-interval:60000}")
+    public synchronized void logStats() {
+
+        rejections.forEach((id, count) -> {
+            long total = count.get();
+            long previous = reported.getOrDefault(id, 0L);
+
+            if (total == previous) return;
+
+            reported.put(id, total);
+
+            log.info("요청 제한 : {} 거절 {} (누적 {})", id, total - previous, total);
+        });
+
+    }
+
+    private static class Stripe {
+
+        // 접근 순서로 정렬, 한도를 넘으면 가장 오래 사용하지 않은 버킷 제거 (다시 가득 찬 버킷으로 시작)
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<String, Bucket>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+
+    }
+
+    private static class Bucket {
+
+        private double tokens;
+
+        private long refillTime;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refillTime = now;
+        }
+
+        private long tryConsume(RateLimitProperties.Rule rule, long now) {
+
+            double nanosPerToken = (double) rule.getRefillPeriod().toNanos() / Math.max(1, rule.getRefillTokens());
+
+            tokens = Math.min(rule.getCapacity(), tokens + (now - refillTime) / nanosPerToken);
+            refillTime = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+
+                return 0;
+            }
+
+            return (long) Math.ceil((1 - tokens) * nanosPerToken);
+
+        }
+
+    }
+
+}
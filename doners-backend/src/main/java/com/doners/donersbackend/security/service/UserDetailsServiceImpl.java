@@ -1,5 +1,6 @@
 package com.doners.donersbackend.security.service;
 
+import com.doners.donersbackend.application.cache.UserCache;
 import com.doners.donersbackend.domain.dao.user.User;
 import com.doners.donersbackend.domain.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +19,14 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @Override
     public UserDetails loadUserByUsername(String userAccount) throws UsernameNotFoundException {
 
-        Optional<User> oUser = userRepository.findByUserAccountAndUserIsDeleted(userAccount, false);
+        // 요청마다 호출되므로 캐시에서 먼저 확인
+        Optional<User> oUser = userCache.getByAccount(userAccount, () -> userRepository.findByUserAccountAndUserIsDeleted(userAccount, false));
 
         return new UserDetailsImpl(oUser.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다.")));
 
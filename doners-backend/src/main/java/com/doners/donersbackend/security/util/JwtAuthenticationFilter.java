@@ -28,12 +28,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         // resolveToken 을 통해 토큰을 받아와서 유효성 검증을 하고 정상 토큰이면 SecurityContext 에 저장
+        // 여기서 조회한 회원은 @CurrentUser 로 컨트롤러에 전달되므로 서비스에서 토큰을 다시 파싱하지 않음
         String token = jwtAuthenticationProvider.resolveToken(request);
 
-        if (token != null && jwtAuthenticationProvider.validateToken(token)) {
-            Authentication authentication = jwtAuthenticationProvider.getAuthentication(token);
+        if (token != null) {
+            Authentication authentication = jwtAuthenticationProvider.authenticate(token);
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication != null) SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         filterChain.doFilter(request, response);
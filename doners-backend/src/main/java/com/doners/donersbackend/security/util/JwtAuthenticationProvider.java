@@ -2,19 +2,27 @@ package com.doners.donersbackend.security.util;
 
 import com.doners.donersbackend.security.service.UserDetailsServiceImpl;
 import io.jsonwebtoken.*;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 // JWT 토큰 생성, 토큰 복호화 및 정보 추출, 토큰 유효성 검증의 기능이 구현된 클래스
+@Slf4j
 @Component
 public class JwtAuthenticationProvider {
 
@@ -29,9 +37,21 @@ public class JwtAuthenticationProvider {
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String TOKEN_ISSUER = "Doners";
 
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    // 검증이 끝난 토큰의 SHA-256 해시 -> claims (접근 순서 LRU, 만료일자가 지나면 제거)
+    // 같은 세션의 반복 요청은 서명 검증과 JSON 파싱을 다시 하지 않음
+    private final LinkedHashMap<String, Claims> verifiedTokens = new LinkedHashMap<String, Claims>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+            return size() > verifiedCacheSize;
+        }
+    };
+
     // JWT 토큰 생성
     public String createToken(Authentication authentication) {
 
@@ -60,9 +80,31 @@ public class JwtAuthenticationProvider {
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    // 토큰 검증과 인증 정보 조회를 한 번에 처리 (서명 확인 1회, 회원 조회 1회)
+    // 유효하지 않은 토큰이거나 탈퇴한 회원이면 null
+    public Authentication authenticate(String token) {
+
+        Claims claims = parseClaims(token);
+
+        if (claims == null) return null;
+
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+
+            return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+
+    }
+
     // 토큰에서 회원 정보 추출
     public String getUserAccount(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+        Claims claims = parseClaims(token);
+
+        if (claims == null) throw new MalformedJwtException("Invalid JWT token");
+
+        return claims.getSubject();
     }
 
     // Request 의 Header 에서 토큰 값 가져옴
@@ -70,31 +112,93 @@ public class JwtAuthenticationProvider {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
 
         if (bearerToken != null && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(7);
-        } else {
-            return "No JWT found in request headers";
+            return bearerToken.substring(BEARER_PREFIX.length());
         }
+
+        return null;
     }
 
     // 토큰의 유효성 + 만료일자 확인
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
+        return parseClaims(token) != null;
+    }
+
+    // 서명과 만료일자를 확인하고 claims 반환 (유효하지 않으면 null)
+    // 형식이 맞지 않는 토큰은 예외 없이 바로 거르고, 이미 검증한 토큰은 캐시에서 반환
+    private Claims parseClaims(String token) {
+        if (!isWellFormed(token)) return null;
+
+        String key = hash(token);
+        Claims claims;
+
+        synchronized (verifiedTokens) {
+            claims = verifiedTokens.get(key);
 
-            return true;
+            if (claims != null && isExpired(claims)) {
+                verifiedTokens.remove(key);
+                claims = null;
+            }
+        }
+
+        if (claims != null) return claims;
+
+        try {
+            claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
         } catch (SignatureException e) {
-            System.out.println("Invalid JWT signature : " + e.getMessage());
+            log.debug("Invalid JWT signature : {}", e.getMessage());
+            return null;
         } catch (MalformedJwtException e) {
-            System.out.println("Invalid JWT token : " + e.getMessage());
+            log.debug("Invalid JWT token : {}", e.getMessage());
+            return null;
         } catch (ExpiredJwtException e) {
-            System.out.println("JWT is expired : " + e.getMessage());
+            log.debug("JWT is expired : {}", e.getMessage());
+            return null;
         } catch (UnsupportedJwtException e) {
-            System.out.println("JWT is unsupported : " + e.getMessage());
+            log.debug("JWT is unsupported : {}", e.getMessage());
+            return null;
         } catch (IllegalArgumentException e) {
-            System.out.println("JWT claims string is empty : " + e.getMessage());
+            log.debug("JWT claims string is empty : {}", e.getMessage());
+            return null;
+        }
+
+        // 만료일자가 없는 토큰은 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(key, claims);
+            }
         }
 
-        return false;
+        return claims;
+    }
+
+    // header.payload.signature 형식인지 확인 (점 2개, 빈 부분 없음)
+    private boolean isWellFormed(String token) {
+        if (token == null || token.isEmpty()) return false;
+
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+
+        return first > 0 && second > first + 1 && second < token.length() - 1 && token.indexOf('.', second + 1) < 0;
+    }
+
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
 }
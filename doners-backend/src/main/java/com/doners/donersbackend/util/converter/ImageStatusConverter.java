@@ -0,0 +1,17 @@
+package com.doners.donersbackend.util.converter;
+
+import com.doners.donersbackend.domain.enums.ImageStatusCode;
+
+import javax.persistence.Converter;
+
+@Converter(autoApply = true)
+public class ImageStatusConverter extends AbstractEnumAttributeConverter<ImageStatusCode> {
+
+    public static final String ENUM_NAME = "사진 상태";
+
+    // 상태가 추가되기 전에 저장된 사진은 NULL (완료로 취급)
+    public ImageStatusConverter() {
+        super(ImageStatusCode.class, true, ENUM_NAME);
+    }
+
+}
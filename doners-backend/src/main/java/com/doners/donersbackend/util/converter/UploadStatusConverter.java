@@ -0,0 +1,16 @@
+package com.doners.donersbackend.util.converter;
+
+import com.doners.donersbackend.domain.enums.UploadStatusCode;
+
+import javax.persistence.Converter;
+
+@Converter(autoApply = true)
+public class UploadStatusConverter extends AbstractEnumAttributeConverter<UploadStatusCode> {
+
+    public static final String ENUM_NAME = "업로드 상태";
+
+    public UploadStatusConverter() {
+        super(UploadStatusCode.class, false, ENUM_NAME);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.doners.donersbackend.util.converter;
+
+import com.doners.donersbackend.domain.enums.UploadTypeCode;
+
+import javax.persistence.Converter;
+
+@Converter(autoApply = true)
+public class UploadTypeConverter extends AbstractEnumAttributeConverter<UploadTypeCode> {
+
+    public static final String ENUM_NAME = "업로드 종류";
+
+    public UploadTypeConverter() {
+        super(UploadTypeCode.class, false, ENUM_NAME);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.doners.donersbackend.util.diff;
+
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+// 순서(sequence)를 키로 기존 행과 요청 항목을 비교해서 추가 / 변경 / 삭제할 항목만 분류
+// 전체 삭제 후 다시 저장하지 않고 바뀐 줄 수만큼만 쿼리가 나가도록 사용
+@Getter
+public class SequenceDiff<E, R> {
+
+    // 새로 추가할 요청 항목
+    private final List<R> inserts = new ArrayList<>();
+
+    // 내용이 바뀐 기존 행 -> 요청 항목
+    private final Map<E, R> updates = new LinkedHashMap<>();
+
+    // 요청에 없는 기존 행
+    private final List<E> deletes = new ArrayList<>();
+
+    private SequenceDiff() {
+    }
+
+    public static <E, R> SequenceDiff<E, R> of(Collection<E> existing, Function<E, Long> existingKey,
+                                               Collection<R> requested, Function<R, Long> requestedKey,
+                                               BiPredicate<E, R> unchanged) {
+
+        SequenceDiff<E, R> diff = new SequenceDiff<>();
+
+        Map<Long, R> requestMap = new LinkedHashMap<>();
+
+        for (R request : requested) {
+            if (requestMap.put(requestedKey.apply(request), request) != null) {
+                throw new IllegalArgumentException("중복된 순서가 있습니다.");
+            }
+        }
+
+        for (E entity : existing) {
+            R request = requestMap.remove(existingKey.apply(entity));
+
+            if (request == null) diff.deletes.add(entity);
+            else if (!unchanged.test(entity, request)) diff.updates.put(entity, request);
+        }
+
+        // 남은 요청은 기존에 없던 순서
+        diff.inserts.addAll(requestMap.values());
+
+        return diff;
+
+    }
+
+    public boolean isEmpty() {
+        return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.doners.donersbackend.util.image;
+
+import com.mortennobel.imagescaling.AdvancedResizeOp;
+import com.mortennobel.imagescaling.MultiStepRescaleOp;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 썸네일 생성 : 원본을 한 번만 디코딩하고, 큰 크기부터 차례로 줄여서 JPEG 로 인코딩
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImageVariantUtils {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    public static final String EXTENSION = ".jpg";
+
+    // 화면별 필요한 크기 (px) : 프로필 사진, 상세 화면 (목록은 기본 크기)
+    public static final int AVATAR_SIZE = 150;
+
+    public static final int DETAIL_SIZE = 600;
+
+    // 알파 채널 제거 (JPEG 는 투명도를 지원하지 않으므로 흰 배경)
+    public static BufferedImage flatten(BufferedImage image) {
+
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) return image;
+
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return rgb;
+
+    }
+
+    // 긴 변이 size 가 되도록 비율을 유지해서 줄임 (원본보다 크게 늘리지 않음)
+    public static BufferedImage resize(BufferedImage image, int size) {
+
+        int longSide = Math.max(image.getWidth(), image.getHeight());
+
+        if (longSide <= size) return image;
+
+        int width = Math.max(1, (int) Math.round((double) image.getWidth() * size / longSide));
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * size / longSide));
+
+        MultiStepRescaleOp rescale = new MultiStepRescaleOp(width, height);
+        rescale.setUnsharpenMask(AdvancedResizeOp.UnsharpenMask.Soft);
+
+        return rescale.filter(image, null);
+
+    }
+
+    public static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+
+        if (!writers.hasNext()) throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(os)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return os.toByteArray();
+
+    }
+
+    // 크기별 파일명을 "150:파일명,300:파일명" 형태로 저장
+    public static String joinVariants(Map<Integer, String> variants) {
+
+        StringBuilder sb = new StringBuilder();
+
+        variants.forEach((size, fileName) -> {
+            if (sb.length() > 0) sb.append(',');
+
+            sb.append(size).append(':').append(fileName);
+        });
+
+        return sb.toString();
+
+    }
+
+    public static TreeMap<Integer, String> parseVariants(String variants) {
+
+        TreeMap<Integer, String> result = new TreeMap<>();
+
+        if (variants == null || variants.isEmpty()) return result;
+
+        for (String variant : variants.split(",")) {
+            int colon = variant.indexOf(':');
+
+            if (colon <= 0) continue;
+
+            try {
+                result.put(Integer.parseInt(variant.substring(0, colon)), variant.substring(colon + 1));
+            } catch (NumberFormatException ignored) {
+                // 형식이 맞지 않는 항목은 무시
+            }
+        }
+
+        return result;
+
+    }
+
+    // 크기별 썸네일 파일명 : resized_{크기}_{원본 파일명(확장자 제외)}.jpg
+    public static String variantFileName(String fileName, int size) {
+
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot < 0 ? fileName : fileName.substring(0, dot);
+
+        return "resized_" + size + "_" + baseName + EXTENSION;
+
+    }
+
+}
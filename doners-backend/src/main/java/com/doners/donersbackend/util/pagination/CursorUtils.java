@@ -0,0 +1,59 @@
+package com.doners.donersbackend.util.pagination;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+// 커서 기반 페이지네이션에서 사용하는 커서 토큰을 인코딩 / 디코딩하는 유틸리티 클래스
+// 클라이언트는 커서 내부 구조를 알 필요 없이 응답으로 받은 값을 그대로 다음 요청에 전달
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorUtils {
+
+    private static final String DELIMITER = "|";
+
+    // 정렬 키 값들을 하나의 커서 토큰으로 인코딩
+    public static String encode(String... values) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(DELIMITER, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 토큰을 정렬 키 값들로 디코딩
+    public static String[] decode(String cursor, int size) {
+
+        String[] values;
+
+        try {
+            values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(Pattern.quote(DELIMITER), -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+
+        if (values.length != size) throw new InvalidCursorException();
+
+        return values;
+
+    }
+
+    public static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.doners.donersbackend.util.pagination;
+
+// 커서 토큰을 디코딩할 수 없음 (컨트롤러에서 400 으로 응답)
+// 기존 호출부의 IllegalArgumentException 처리를 깨지 않도록 상속
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException() {
+        super("잘못된 형식의 커서입니다.");
+    }
+
+}
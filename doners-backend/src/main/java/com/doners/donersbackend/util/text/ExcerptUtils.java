@@ -0,0 +1,41 @@
+package com.doners.donersbackend.util.text;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.regex.Pattern;
+
+// 목록 미리보기용 본문 요약 (HTML 태그 제거 후 앞부분만)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExcerptUtils {
+
+    public static final int EXCERPT_LENGTH = 200;
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+
+    private static final Pattern TAG = Pattern.compile("(?s)<[^>]*>");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static String createExcerpt(String description) {
+
+        if (description == null) return "";
+
+        String text = SCRIPT_OR_STYLE.matcher(description).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll(" ");
+        text = text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+
+        if (text.codePointCount(0, text.length()) <= EXCERPT_LENGTH) return text;
+
+        // 서로게이트 쌍이 잘리지 않도록 코드 포인트 기준으로 자름
+        return text.substring(0, text.offsetByCodePoints(0, EXCERPT_LENGTH)) + "...";
+
+    }
+
+}
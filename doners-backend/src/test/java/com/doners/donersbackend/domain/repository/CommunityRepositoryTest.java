@@ -0,0 +1,48 @@
+package com.doners.donersbackend.domain.repository;
+
+import com.doners.donersbackend.domain.dao.community.Community;
+import com.doners.donersbackend.domain.enums.CommunityCode;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CommunityRepositoryTest {
+
+	@Autowired
+	TestEntityManager testEntityManager;
+
+	@Autowired
+	CommunityRepository communityRepository;
+
+	@Test
+	@DisplayName("글 본문(LOB)은 엔티티를 조회할 때가 아니라 사용할 때 조회")
+	void lazyDescription() {
+		String communityId = testEntityManager.persist(Community.builder()
+				.communityTitle("title")
+				.communityDescription("description")
+				.communityCreateTime(LocalDateTime.now())
+				.communityViews(0L)
+				.communityCode(CommunityCode.GENERAL)
+				.build()).getId();
+
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		Community community = communityRepository.findById(communityId).get();
+
+		assertThat(Hibernate.isPropertyInitialized(community, "communityDescription")).isFalse();
+		assertThat(community.getCommunityDescription()).isEqualTo("description");
+		assertThat(Hibernate.isPropertyInitialized(community, "communityDescription")).isTrue();
+	}
+
+}
@@ -0,0 +1,195 @@
+package com.doners.donersbackend.domain.repository.donation;
+
+import com.doners.donersbackend.application.cache.DonationDetailCache;
+import com.doners.donersbackend.application.cache.UserCache;
+import com.doners.donersbackend.application.counter.EngagementCounterService;
+import com.doners.donersbackend.application.dto.request.donation.DonationBudgetRequestDTO;
+import com.doners.donersbackend.application.dto.request.donation.DonationRegisterPostDTO;
+import com.doners.donersbackend.application.search.DonationSearchIndex;
+import com.doners.donersbackend.application.search.DonationSearchSnapshots;
+import com.doners.donersbackend.application.search.OpenDonationIndex;
+import com.doners.donersbackend.application.service.AwsS3Service;
+import com.doners.donersbackend.application.service.DonationService;
+import com.doners.donersbackend.application.service.DonationServiceImpl;
+import com.doners.donersbackend.application.upload.StreamingUploader;
+import com.doners.donersbackend.application.upload.UploadPipeline;
+import com.doners.donersbackend.domain.dao.donation.Donation;
+import com.doners.donersbackend.domain.dao.donation.DonationBudget;
+import com.doners.donersbackend.domain.dao.donation.File;
+import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.enums.ApprovalStatusCode;
+import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.domain.enums.UserCode;
+import com.doners.donersbackend.domain.repository.FileRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DonationServiceImpl.class)
+class DonationBudgetRepositoryTest {
+
+	private static final int COUNT = 10;
+
+	@Autowired
+	TestEntityManager testEntityManager;
+
+	@Autowired
+	DonationBudgetRepository donationBudgetRepository;
+
+	@Autowired
+	FileRepository fileRepository;
+
+	@Autowired
+	DonationService donationService;
+
+	// 저장소 외의 의존성 (S3 업로드, 색인, 캐시)
+	@MockBean
+	AwsS3Service awsS3Service;
+
+	@MockBean
+	UploadPipeline uploadPipeline;
+
+	@MockBean
+	StreamingUploader streamingUploader;
+
+	@MockBean
+	DonationSearchIndex donationSearchIndex;
+
+	@MockBean
+	DonationSearchSnapshots donationSearchSnapshots;
+
+	@MockBean
+	OpenDonationIndex openDonationIndex;
+
+	@MockBean
+	EngagementCounterService engagementCounterService;
+
+	@MockBean
+	DonationDetailCache donationDetailCache;
+
+	@MockBean
+	UserCache userCache;
+
+	Statistics statistics;
+
+	User user;
+
+	Donation donation;
+
+	@BeforeEach
+	void setUp() {
+		statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+
+		user = testEntityManager.persist(User.builder()
+				.userCode(UserCode.USER)
+				.userNickname("nickname")
+				.userAccount("0x1")
+				.build());
+
+		donation = testEntityManager.persist(Donation.builder()
+				.title("title")
+				.categoryCode(CategoryCode.COVID19)
+				.approvalStatusCode(ApprovalStatusCode.BEFORE_CONFIRMATION)
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusDays(30))
+				.user(user)
+				.build());
+
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+	@Test
+	@DisplayName("예산안, 증빙 자료 saveAll 은 테이블마다 batch insert 한 번으로 저장")
+	void saveAll() {
+		List<DonationBudget> donationBudgetList = new ArrayList<>();
+		List<File> evidenceFileList = new ArrayList<>();
+
+		for (int i = 0; i < COUNT; i++) {
+			donationBudgetList.add(DonationBudget.builder()
+					.plan("plan" + i)
+					.amount(i)
+					.sequence(i)
+					.donation(donation)
+					.build());
+
+			evidenceFileList.add(File.builder()
+					.originalFileName("evidence" + i)
+					.savedFileName("saved" + i)
+					.donation(donation)
+					.build());
+		}
+
+		statistics.clear();
+
+		donationBudgetRepository.saveAll(donationBudgetList);
+		fileRepository.saveAll(evidenceFileList);
+
+		testEntityManager.flush();
+
+		// 행마다 INSERT 를 준비하지 않고 테이블마다 한 문장으로 묶어서 실행
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(COUNT * 2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("기부 신청 시 예산안은 개수와 관계없이 INSERT 문 하나로 저장")
+	void createDonation() {
+		List<DonationBudgetRequestDTO> budget = new ArrayList<>();
+
+		for (int i = 0; i < COUNT; i++) {
+			DonationBudgetRequestDTO donationBudgetRequestDTO = new DonationBudgetRequestDTO();
+
+			ReflectionTestUtils.setField(donationBudgetRequestDTO, "plan", "plan" + i);
+			ReflectionTestUtils.setField(donationBudgetRequestDTO, "amount", (double) i);
+			ReflectionTestUtils.setField(donationBudgetRequestDTO, "sequence", (long) i);
+
+			budget.add(donationBudgetRequestDTO);
+		}
+
+		DonationRegisterPostDTO donationRegisterPostDTO = new DonationRegisterPostDTO();
+
+		ReflectionTestUtils.setField(donationRegisterPostDTO, "phone", "010-0000-0000");
+		ReflectionTestUtils.setField(donationRegisterPostDTO, "title", "title");
+		ReflectionTestUtils.setField(donationRegisterPostDTO, "categoryCode", CategoryCode.COVID19);
+		ReflectionTestUtils.setField(donationRegisterPostDTO, "endDate", LocalDate.now().plusDays(30));
+		ReflectionTestUtils.setField(donationRegisterPostDTO, "description", "description");
+		ReflectionTestUtils.setField(donationRegisterPostDTO, "budget", budget);
+		ReflectionTestUtils.setField(donationRegisterPostDTO, "targetAmount", 100.0);
+
+		List<MultipartFile> evidence = Collections.singletonList(
+				new MockMultipartFile("evidence", "evidence.pdf", "application/pdf", new byte[] {1}));
+
+		statistics.clear();
+
+		donationService.createDonation(user, donationRegisterPostDTO, null, null, evidence);
+
+		testEntityManager.flush();
+
+		// 기부글, 예산안, 증빙 자료 테이블마다 한 문장 (예산안은 행마다 INSERT 하지 않음)
+		assertThat(statistics.getEntityStatistics(DonationBudget.class.getName()).getInsertCount()).isEqualTo(COUNT);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.doners.donersbackend.domain.repository.donation;
+
+import com.doners.donersbackend.domain.dao.donation.Donation;
+import com.doners.donersbackend.domain.dao.image.Image;
+import com.doners.donersbackend.domain.dao.user.User;
+import com.doners.donersbackend.domain.enums.ApprovalStatusCode;
+import com.doners.donersbackend.domain.enums.CategoryCode;
+import com.doners.donersbackend.domain.enums.UserCode;
+import com.doners.donersbackend.domain.repository.donation.projection.DonationListProjection;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class DonationRepositoryTest {
+
+	@Autowired
+	TestEntityManager testEntityManager;
+
+	@Autowired
+	DonationRepository donationRepository;
+
+	Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("목록 카드는 기부글 수와 관계없이 쿼리 한 번으로 조회")
+	void findByCategoryCodeOrderByStartDate() {
+		LocalDate today = LocalDate.now();
+		int total = 0;
+
+		for (int count : new int[] {1, 5, 20}) {
+			saveDonations(count, today);
+			total += count;
+
+			statistics.clear();
+
+			List<DonationListProjection> donationList = donationRepository.findByCategoryCodeOrderByStartDate(
+					CategoryCode.COVID19, false, today, null, null, PageRequest.of(0, 100)).get();
+
+			assertThat(donationList).hasSize(total);
+
+			// 닉네임, 썸네일까지 projection 으로 채워져서 추가 조회 없음
+			donationList.forEach(donation -> {
+				assertThat(donation.getUserNickname()).startsWith("nickname");
+				assertThat(donation.getThumbnailFileName()).startsWith("thumbnail");
+			});
+
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+			assertThat(statistics.getEntityLoadCount()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("닉네임 검색은 승인되었고 삭제되지 않은 기부글만 조회")
+	void searchByUser() {
+		LocalDate today = LocalDate.now();
+
+		User user = testEntityManager.persist(User.builder()
+				.userCode(UserCode.USER)
+				.userNickname("nickname")
+				.userAccount("0x1")
+				.build());
+
+		Donation approved = testEntityManager.persist(donation(user, ApprovalStatusCode.APPROVAL, true, false, today));
+		testEntityManager.persist(donation(user, ApprovalStatusCode.BEFORE_CONFIRMATION, false, false, today));
+		testEntityManager.persist(donation(user, ApprovalStatusCode.APPROVAL, true, true, today));
+
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		List<DonationListProjection> donationList = donationRepository.searchByUser(
+				CategoryCode.COVID19, user, false, today, null, null, PageRequest.of(0, 100)).get();
+
+		assertThat(donationList).extracting(DonationListProjection::getId).containsExactly(approved.getId());
+	}
+
+	private Donation donation(User user, ApprovalStatusCode approvalStatusCode, boolean isApproved, boolean isDeleted, LocalDate today) {
+		return Donation.builder()
+				.title("title")
+				.categoryCode(CategoryCode.COVID19)
+				.approvalStatusCode(approvalStatusCode)
+				.isApproved(isApproved)
+				.isDeleted(isDeleted)
+				.startDate(today)
+				.endDate(today.plusDays(30))
+				.user(user)
+				.build();
+	}
+
+	// 작성자, 원본 사진, 썸네일이 있는 승인된 기부글 저장
+	private void saveDonations(int count, LocalDate today) {
+		for (int i = 0; i < count; i++) {
+			User user = testEntityManager.persist(User.builder()
+					.userCode(UserCode.USER)
+					.userNickname("nickname" + i)
+					.userAccount("0x" + i)
+					.build());
+
+			Donation donation = testEntityManager.persist(Donation.builder()
+					.title("title" + i)
+					.categoryCode(CategoryCode.COVID19)
+					.approvalStatusCode(ApprovalStatusCode.APPROVAL)
+					.isApproved(true)
+					.startDate(today.minusDays(i))
+					.endDate(today.plusDays(30))
+					.user(user)
+					.build());
+
+			testEntityManager.persist(Image.builder()
+					.imageOriginFileName("origin" + i)
+					.imageNewFileName("original" + i)
+					.donation(donation)
+					.build());
+
+			testEntityManager.persist(Image.builder()
+					.imageOriginFileName("origin" + i)
+					.imageNewFileName("thumbnail" + i)
+					.imageIsResized(true)
+					.donation(donation)
+					.build());
+		}
+
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+}